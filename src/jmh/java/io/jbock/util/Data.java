@@ -0,0 +1,26 @@
+package io.jbock.util;
+
+import java.util.Random;
+
+/**
+ * Deterministic input data for the benchmarks.
+ */
+final class Data {
+
+    private static final long SEED = 42L;
+
+    static Either<String, Integer>[] eithers(int size, double leftRatio) {
+        Random random = new Random(SEED);
+        @SuppressWarnings("unchecked")
+        Either<String, Integer>[] result = new Either[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = random.nextDouble() < leftRatio
+                    ? Either.left("failure " + i)
+                    : Either.right(i);
+        }
+        return result;
+    }
+
+    private Data() {
+    }
+}
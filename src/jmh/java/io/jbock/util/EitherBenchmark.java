@@ -0,0 +1,117 @@
+package io.jbock.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Combinator chains on single {@link Either} instances,
+ * at different ratios of Left to Right inputs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(EitherBenchmark.BATCH)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EitherBenchmark {
+
+    static final int BATCH = 1024;
+
+    @Param({"0.0", "0.1", "0.5", "1.0"})
+    double leftRatio;
+
+    Either<String, Integer>[] data;
+
+    @Setup
+    public void setup() {
+        data = Data.eithers(BATCH, leftRatio);
+    }
+
+    @Benchmark
+    public void mapChain(Blackhole bh) {
+        for (Either<String, Integer> either : data) {
+            bh.consume(either
+                    .map(n -> n + 1)
+                    .map(n -> n * 2)
+                    .map(n -> n - 3));
+        }
+    }
+
+    @Benchmark
+    public void lazyMapChain(Blackhole bh) {
+        for (Either<String, Integer> either : data) {
+            bh.consume(LazyEither.of(either)
+                    .map(n -> n + 1)
+                    .map(n -> n * 2)
+                    .map(n -> n - 3)
+                    .toEither());
+        }
+    }
+
+    @Benchmark
+    public void flatMapChain(Blackhole bh) {
+        for (Either<String, Integer> either : data) {
+            bh.consume(either
+                    .flatMap(n -> n % 7 == 0 ? Either.left("seven") : Either.right(n + 1))
+                    .flatMap(n -> Either.right(n * 2)));
+        }
+    }
+
+    @Benchmark
+    public void nestedFlatMap3(Blackhole bh) {
+        for (int i = 0; i < BATCH - 2; i++) {
+            Either<String, Integer> b = data[i + 1];
+            Either<String, Integer> c = data[i + 2];
+            bh.consume(data[i].flatMap(x -> b.flatMap(y -> c.map(z -> x + y + z))));
+        }
+    }
+
+    @Benchmark
+    public void zip3(Blackhole bh) {
+        for (int i = 0; i < BATCH - 2; i++) {
+            bh.consume(Either.zip(data[i], data[i + 1], data[i + 2], (x, y, z) -> x + y + z));
+        }
+    }
+
+    @Benchmark
+    public void filterChain(Blackhole bh) {
+        for (Either<String, Integer> either : data) {
+            bh.consume(either
+                    .filter(n -> n < 0 ? Optional.of("negative") : Optional.empty())
+                    .filter(n -> n % 7 == 0 ? Optional.of("seven") : Optional.empty()));
+        }
+    }
+
+    @Benchmark
+    public void mapLeftChain(Blackhole bh) {
+        for (Either<String, Integer> either : data) {
+            bh.consume(either
+                    .mapLeft(String::length)
+                    .mapLeft(n -> n + 1));
+        }
+    }
+
+    @Benchmark
+    public void foldChain(Blackhole bh) {
+        for (Either<String, Integer> either : data) {
+            bh.consume(either
+                    .map(n -> n + 1)
+                    .fold(String::length, n -> n));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.jbock.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-step cost of {@link EitherProgram} compared to direct {@link Either#flatMap(java.util.function.Function) flatMap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EitherProgramBenchmark {
+
+    @Param({"10", "1000"})
+    int depth;
+
+    EitherProgram<String, Integer> program;
+
+    @Setup
+    public void setup() {
+        EitherProgram<String, Integer> p = EitherProgram.right(0);
+        for (int i = 0; i < depth; i++) {
+            p = p.flatMap(n -> EitherProgram.right(n + 1));
+        }
+        program = p;
+    }
+
+    @Benchmark
+    public Either<String, Integer> directFlatMap() {
+        Either<String, Integer> result = Either.right(0);
+        for (int i = 0; i < depth; i++) {
+            result = result.flatMap(n -> Either.right(n + 1));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Either<String, Integer> programFlatMap() {
+        EitherProgram<String, Integer> p = EitherProgram.right(0);
+        for (int i = 0; i < depth; i++) {
+            p = p.flatMap(n -> EitherProgram.right(n + 1));
+        }
+        return p.toEither();
+    }
+
+    @Benchmark
+    public Either<String, Integer> programEvaluateOnly() {
+        return program.toEither();
+    }
+}
@@ -0,0 +1,65 @@
+package io.jbock.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * The {@link Eithers} collectors on sequential and parallel streams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EithersBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean parallel;
+
+    @Param({"0.0", "0.01"})
+    double leftRatio;
+
+    List<Either<String, Integer>> data;
+
+    @Setup
+    public void setup() {
+        data = Arrays.asList(Data.eithers(size, leftRatio));
+    }
+
+    @Benchmark
+    public Either<String, List<Integer>> firstFailure() {
+        return stream().collect(Eithers.firstFailure());
+    }
+
+    @Benchmark
+    public Either<List<String>, List<Integer>> allFailures() {
+        return stream().collect(Eithers.allFailures());
+    }
+
+    @Benchmark
+    public Either<List<String>, List<Integer>> allFailuresUnordered() {
+        return stream().collect(Eithers.allFailuresUnordered());
+    }
+
+    private Stream<Either<String, Integer>> stream() {
+        return parallel ? data.parallelStream() : data.stream();
+    }
+}
@@ -0,0 +1,201 @@
+package io.jbock.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class contains static utility methods related to
+ * asynchronous computations of the {@link Either} type.
+ */
+public final class AsyncEithers {
+
+    /**
+     * Returns a new future that is completed with the result of applying
+     * {@link Either#map(Function) map} to the result of the given stage.
+     *
+     * @param stage a stage that completes with an {@code Either}
+     * @param mapper the function to apply to the RHS value, if the result is a Right
+     * @param <L> the LHS type
+     * @param <R> the RHS type of the input
+     * @param <R2> the new RHS type
+     * @return a new future
+     */
+    public static <L, R, R2> CompletableFuture<Either<L, R2>> thenMap(
+            CompletionStage<? extends Either<? extends L, ? extends R>> stage,
+            Function<? super R, ? extends R2> mapper) {
+        return stage.toCompletableFuture().thenApply(either -> narrow(either.map(mapper)));
+    }
+
+    /**
+     * Returns a new future that is completed with the result of the given stage,
+     * if it is a Left. Otherwise the new future is completed with the result
+     * of the stage that is obtained by applying the {@code mapper}
+     * to the RHS value.
+     *
+     * @param stage a stage that completes with an {@code Either}
+     * @param mapper a function that starts an asynchronous computation,
+     *               if the result is a Right
+     * @param <L> the LHS type
+     * @param <R> the RHS type of the input
+     * @param <R2> the new RHS type
+     * @return a new future
+     */
+    public static <L, R, R2> CompletableFuture<Either<L, R2>> thenFlatMap(
+            CompletionStage<? extends Either<? extends L, ? extends R>> stage,
+            Function<? super R, ? extends CompletionStage<? extends Either<? extends L, ? extends R2>>> mapper) {
+        return stage.toCompletableFuture().thenCompose(either -> {
+            if (either.isLeft()) {
+                return CompletableFuture.completedFuture(AsyncEithers.<L, R2>castLeft(either));
+            }
+            return mapper.apply(either.rightOrNull()).thenApply(AsyncEithers::narrow);
+        });
+    }
+
+    /**
+     * Returns a new future that is completed when all given futures have
+     * completed with a Right, or as soon as any of them completes with a Left.
+     * In the first case, the new future is completed with a Right containing
+     * an unmodifiable list of the RHS values, in the order of the input list.
+     * In the second case, it is completed with a Left containing the first LHS value
+     * that arrives, and all other futures are cancelled.
+     * If any of the input futures completes exceptionally, the new future
+     * is completed exceptionally, and the others are cancelled.
+     * The same happens if an input future completes with {@code null}.
+     * Cancelling the new future cancels all input futures.
+     *
+     * @see Eithers#firstFailure()
+     * @param futures a list of futures
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     * @return a new future
+     */
+    public static <L, R> CompletableFuture<Either<L, List<R>>> firstFailure(
+            List<? extends CompletableFuture<? extends Either<? extends L, ? extends R>>> futures) {
+        CompletableFuture<Either<L, List<R>>> result = new CompletableFuture<>();
+        if (futures.isEmpty()) {
+            result.complete(Either.rightEmptyList());
+            return result;
+        }
+        Object[] values = new Object[futures.size()];
+        AtomicInteger remaining = new AtomicInteger(values.length);
+        result.whenComplete((r, t) -> futures.forEach(future -> future.cancel(true)));
+        for (int i = 0; i < values.length; i++) {
+            int index = i;
+            futures.get(i).whenComplete((either, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
+                    return;
+                }
+                if (either == null) {
+                    result.completeExceptionally(new NullPointerException("future " + index + " completed with null"));
+                    return;
+                }
+                if (either.isLeft()) {
+                    result.complete(castLeft(either));
+                    return;
+                }
+                values[index] = either.rightOrNull();
+                if (remaining.decrementAndGet() == 0) {
+                    @SuppressWarnings("unchecked")
+                    List<R> rights = (List<R>) Arrays.asList(values);
+                    result.complete(Either.right(Collections.unmodifiableList(rights)));
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new future that is completed when all given futures have completed.
+     * If all of them completed with a Right, the new future is completed with a Right
+     * containing the RHS values, in the order of the input list.
+     * Otherwise it is completed with a Left containing all LHS values,
+     * in the order of the input list.
+     * If any of the input futures completes exceptionally, the new future
+     * is completed exceptionally.
+     *
+     * @see Eithers#allFailures()
+     * @param futures a list of futures
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     * @return a new future
+     */
+    public static <L, R> CompletableFuture<Either<List<L>, List<R>>> allFailures(
+            List<? extends CompletableFuture<? extends Either<? extends L, ? extends R>>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(nothing -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Eithers.allFailures()));
+    }
+
+    /**
+     * Returns a new future that is completed with the result of the given future,
+     * or with a Left containing the result of {@code onTimeout},
+     * if the given future does not complete before the timeout.
+     * In the latter case, the given future is cancelled.
+     *
+     * @param future a future
+     * @param timeout how long to wait for the {@code future}
+     * @param onTimeout supplier of the LHS value in case of a timeout
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     * @return a new future
+     */
+    public static <L, R> CompletableFuture<Either<L, R>> withTimeout(
+            CompletableFuture<? extends Either<? extends L, ? extends R>> future,
+            Duration timeout,
+            Supplier<? extends L> onTimeout) {
+        requireNonNull(onTimeout);
+        CompletableFuture<Either<L, R>> result = new CompletableFuture<>();
+        future.whenComplete((either, t) -> {
+            if (t != null) {
+                result.completeExceptionally(t);
+            } else {
+                result.complete(narrow(either));
+            }
+        });
+        // orTimeout unschedules its timer when the future completes early
+        CompletableFuture<Void> timer = new CompletableFuture<>();
+        timer.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).whenComplete((nothing, t) -> {
+            if (t == null || result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(Either.left(onTimeout.get()));
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((r, t) -> {
+            timer.complete(null);
+            future.cancel(true);
+        });
+        return result;
+    }
+
+    private static <L, R> Either<L, R> narrow(Either<? extends L, ? extends R> either) {
+        @SuppressWarnings("unchecked")
+        Either<L, R> result = (Either<L, R>) either;
+        return result;
+    }
+
+    // the RHS type of a Left is arbitrary
+    private static <L, R> Either<L, R> castLeft(Either<? extends L, ?> left) {
+        @SuppressWarnings("unchecked")
+        Either<L, R> result = (Either<L, R>) left;
+        return result;
+    }
+
+    private AsyncEithers() {
+    }
+}
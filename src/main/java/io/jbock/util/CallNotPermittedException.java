@@ -0,0 +1,20 @@
+package io.jbock.util;
+
+/**
+ * Thrown by a function that was decorated by a {@link CircuitBreaker},
+ * when the breaker is open, there is no fallback, and no Left has been
+ * recorded yet, so there is no LHS value to return.
+ * The cause is the most recent exception thrown by the underlying function.
+ *
+ * <p>A new instance is thrown for each rejected call.
+ * Instances do not capture a stack trace
+ * and do not record suppressed exceptions, so creating them is cheap.
+ */
+public final class CallNotPermittedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    CallNotPermittedException(Throwable cause) {
+        super("The circuit breaker is open", cause, false, false);
+    }
+}
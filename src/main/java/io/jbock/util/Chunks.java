@@ -0,0 +1,107 @@
+package io.jbock.util;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Internal append-only sequence of elements,
+ * stored as a linked list of segments.
+ * Two instances can be concatenated in constant time.
+ *
+ * @param <E> the type of the elements
+ */
+final class Chunks<E> {
+
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    private final Segment<E> head;
+    private Segment<E> tail;
+    private int size;
+
+    Chunks() {
+        this.head = new Segment<>();
+        this.tail = head;
+    }
+
+    void add(E element) {
+        tail.elements.add(element);
+        size++;
+    }
+
+    /**
+     * Appends all elements of {@code other} to this instance,
+     * by linking its segments. {@code other} must not be used
+     * after this operation.
+     *
+     * @param other another instance
+     */
+    void addAll(Chunks<E> other) {
+        tail.next = other.head;
+        tail = other.tail;
+        size += other.size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the elements as a list.
+     * If there is only one segment, this is the segment's own list.
+     * Otherwise it is a read-only view of the linked segments,
+     * so no elements are copied in either case.
+     * This instance must not be modified afterwards.
+     *
+     * @return a list of the elements
+     */
+    List<E> toList() {
+        if (head == tail) {
+            return head.elements;
+        }
+        return new ConcatList<>(head, size);
+    }
+
+    // Indexed access uses a binary search over the segment offsets.
+    private static final class ConcatList<E> extends AbstractList<E> implements RandomAccess {
+        private final List<ArrayList<E>> segments = new ArrayList<>();
+        private final int[] offsets;
+        private final int size;
+
+        ConcatList(Segment<E> head, int size) {
+            for (Segment<E> segment = head; segment != null; segment = segment.next) {
+                if (!segment.elements.isEmpty()) {
+                    segments.add(segment.elements);
+                }
+            }
+            this.offsets = new int[segments.size()];
+            for (int i = 1; i < offsets.length; i++) {
+                offsets[i] = offsets[i - 1] + segments.get(i - 1).size();
+            }
+            this.size = size;
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            int i = Arrays.binarySearch(offsets, index);
+            if (i < 0) {
+                i = -i - 2;
+            }
+            return segments.get(i).get(index - offsets[i]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static final class Segment<E> {
+        final ArrayList<E> elements = new ArrayList<>(INITIAL_SEGMENT_CAPACITY);
+        Segment<E> next;
+    }
+}
@@ -0,0 +1,300 @@
+package io.jbock.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A circuit breaker for functions that return an {@link Either}.
+ * It counts the Lefts among the most recent calls, in a sliding window
+ * of fixed size.
+ * When the window is full and the share of Lefts reaches the threshold,
+ * the breaker opens. While it is open, decorated functions return a Left
+ * immediately, without invoking the underlying function.
+ * The returned Left contains a fallback value, or, if no fallback
+ * was configured, the most recent LHS value.
+ *
+ * <p>After the configured open duration, the breaker lets a single probe call
+ * through. If the probe returns a Right, the breaker closes and the window
+ * starts from scratch. Otherwise it opens again.
+ *
+ * <p>All state is kept in atomic variables, so recording an outcome does not lock.
+ * An exception thrown by the underlying function counts as a Left,
+ * and is rethrown.
+ * If the breaker was opened by exceptions only, and there is no fallback,
+ * rejected calls throw a new {@link CallNotPermittedException},
+ * with the most recent exception as its cause.
+ *
+ * @param <L> the LHS type
+ */
+public final class CircuitBreaker<L> {
+
+    /**
+     * The states of a circuit breaker.
+     */
+    public enum State {
+
+        /**
+         * Calls go through, and their outcomes are recorded.
+         */
+        CLOSED,
+
+        /**
+         * Calls are rejected.
+         */
+        OPEN,
+
+        /**
+         * A probe call is in progress. Other calls are rejected.
+         */
+        HALF_OPEN,
+    }
+
+    private static final int CLOSED = 0;
+    private static final int OPEN = 1;
+    private static final int HALF_OPEN = 2;
+
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    private static final long NOT_OPEN = Long.MIN_VALUE;
+
+    private final int windowSize;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Supplier<? extends L> fallback; // nullable
+    private final LongSupplier ticker;
+
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private final LongAdder rejected = new LongAdder();
+    private volatile Window window;
+    private volatile long openedAt = NOT_OPEN;
+    private volatile L lastLeft;
+    private volatile Throwable lastException; // RuntimeException or Error
+
+    private CircuitBreaker(
+            int windowSize,
+            double failureRateThreshold,
+            Duration openDuration,
+            Supplier<? extends L> fallback,
+            LongSupplier ticker) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive: " + windowSize);
+        }
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]: " + failureRateThreshold);
+        }
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("openDuration must not be negative: " + openDuration);
+        }
+        this.windowSize = windowSize;
+        this.failureThreshold = Math.max(1, (int) Math.ceil(failureRateThreshold * windowSize));
+        this.openNanos = openDuration.toNanos();
+        this.fallback = fallback;
+        this.ticker = ticker;
+        this.window = new Window(windowSize);
+    }
+
+    // The outcomes of the most recent calls, in a ring buffer.
+    // An empty slot is 0.
+    // A reset replaces the whole window, so that calls which are still
+    // recording into the old window cannot corrupt the new one.
+    private static final class Window {
+        final AtomicIntegerArray ring;
+        final AtomicLong calls = new AtomicLong();
+        final AtomicInteger failures = new AtomicInteger();
+
+        Window(int size) {
+            this.ring = new AtomicIntegerArray(size);
+        }
+    }
+
+    /**
+     * Creates a circuit breaker that returns the most recent LHS value
+     * while it is open.
+     *
+     * @param windowSize the number of recent calls to consider, must be positive
+     * @param failureRateThreshold the share of Lefts in the window
+     *                             that opens the breaker, in {@code (0, 1]}
+     * @param openDuration the time after which a probe call is allowed
+     * @param <L> the LHS type
+     * @return a new circuit breaker
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public static <L> CircuitBreaker<L> create(
+            int windowSize,
+            double failureRateThreshold,
+            Duration openDuration) {
+        return new CircuitBreaker<>(windowSize, failureRateThreshold, openDuration, null, System::nanoTime);
+    }
+
+    /**
+     * Creates a circuit breaker that returns a Left containing a value
+     * from the {@code fallback} while it is open.
+     *
+     * @param windowSize the number of recent calls to consider, must be positive
+     * @param failureRateThreshold the share of Lefts in the window
+     *                             that opens the breaker, in {@code (0, 1]}
+     * @param openDuration the time after which a probe call is allowed
+     * @param fallback supplies the LHS value for rejected calls
+     * @param <L> the LHS type
+     * @return a new circuit breaker
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public static <L> CircuitBreaker<L> create(
+            int windowSize,
+            double failureRateThreshold,
+            Duration openDuration,
+            Supplier<? extends L> fallback) {
+        return new CircuitBreaker<>(windowSize, failureRateThreshold, openDuration, requireNonNull(fallback), System::nanoTime);
+    }
+
+    static <L> CircuitBreaker<L> create(
+            int windowSize,
+            double failureRateThreshold,
+            Duration openDuration,
+            Supplier<? extends L> fallback,
+            LongSupplier ticker) {
+        return new CircuitBreaker<>(windowSize, failureRateThreshold, openDuration, fallback, ticker);
+    }
+
+    /**
+     * Returns a function that invokes the given function through this breaker.
+     *
+     * @param function the function to protect
+     * @param <T> the type of the input
+     * @param <R> the RHS type
+     * @return a decorated function
+     */
+    public <T, R> Function<T, Either<L, R>> decorateFunction(
+            Function<? super T, ? extends Either<? extends L, ? extends R>> function) {
+        requireNonNull(function);
+        return t -> call(() -> function.apply(t));
+    }
+
+    /**
+     * Returns a supplier that invokes the given supplier through this breaker.
+     *
+     * @param supplier the supplier to protect
+     * @param <R> the RHS type
+     * @return a decorated supplier
+     */
+    public <R> Supplier<Either<L, R>> decorateSupplier(
+            Supplier<? extends Either<? extends L, ? extends R>> supplier) {
+        requireNonNull(supplier);
+        return () -> call(supplier);
+    }
+
+    /**
+     * Returns the current state.
+     * An open breaker whose open duration has passed is still reported as
+     * {@code OPEN}, until the next call starts the probe.
+     *
+     * @return the current state
+     */
+    public State state() {
+        switch (state.get()) {
+            case OPEN:
+                return State.OPEN;
+            case HALF_OPEN:
+                return State.HALF_OPEN;
+            default:
+                return State.CLOSED;
+        }
+    }
+
+    /**
+     * Returns the number of calls that were rejected
+     * without invoking the underlying function.
+     *
+     * @return the number of rejected calls
+     */
+    public long rejectedCalls() {
+        return rejected.sum();
+    }
+
+    private <R> Either<L, R> call(Supplier<? extends Either<? extends L, ? extends R>> supplier) {
+        int s = state.get();
+        long at = openedAt;
+        if (s == OPEN && at != NOT_OPEN && ticker.getAsLong() - at >= openNanos
+                && state.compareAndSet(OPEN, HALF_OPEN)) {
+            return probe(supplier);
+        }
+        if (s != CLOSED) {
+            rejected.increment();
+            L value = fallback != null ? fallback.get() : lastLeft;
+            if (value == null) {
+                // the breaker opens only after a failure, so there is a Left or an exception
+                throw new CallNotPermittedException(lastException);
+            }
+            return Either.left(value);
+        }
+        // the outcome belongs to the window in which the call started
+        Window w = window;
+        Either<? extends L, ? extends R> result;
+        try {
+            result = supplier.get();
+        } catch (RuntimeException | Error e) {
+            lastException = e;
+            record(w, FAILURE);
+            throw e;
+        }
+        if (result.isLeft()) {
+            lastLeft = result.leftOrNull();
+            record(w, FAILURE);
+        } else {
+            record(w, SUCCESS);
+        }
+        return narrow(result);
+    }
+
+    private <R> Either<L, R> probe(Supplier<? extends Either<? extends L, ? extends R>> supplier) {
+        Either<? extends L, ? extends R> result;
+        try {
+            result = supplier.get();
+        } catch (RuntimeException | Error e) {
+            lastException = e;
+            open();
+            throw e;
+        }
+        if (result.isLeft()) {
+            lastLeft = result.leftOrNull();
+            open();
+        } else {
+            window = new Window(windowSize);
+            openedAt = NOT_OPEN;
+            state.set(CLOSED);
+        }
+        return narrow(result);
+    }
+
+    private void record(Window w, int outcome) {
+        long n = w.calls.getAndIncrement();
+        int old = w.ring.getAndSet((int) (n % windowSize), outcome);
+        int f = old == FAILURE
+                ? (outcome == FAILURE ? w.failures.get() : w.failures.decrementAndGet())
+                : (outcome == FAILURE ? w.failures.incrementAndGet() : w.failures.get());
+        if (f >= failureThreshold && n + 1 >= windowSize && w == window
+                && state.get() == CLOSED && state.compareAndSet(CLOSED, OPEN)) {
+            openedAt = ticker.getAsLong();
+        }
+    }
+
+    private void open() {
+        openedAt = ticker.getAsLong();
+        state.set(OPEN);
+    }
+
+    private static <L, R> Either<L, R> narrow(Either<? extends L, ? extends R> either) {
+        @SuppressWarnings("unchecked")
+        Either<L, R> result = (Either<L, R>) either;
+        return result;
+    }
+}
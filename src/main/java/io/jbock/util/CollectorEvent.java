@@ -0,0 +1,65 @@
+package io.jbock.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for a run of an instrumented collector.
+ * This class must only be loaded if {@link JfrSupport#AVAILABLE} is {@code true}.
+ */
+@Name("io.jbock.util.Collector")
+@Label("Either Collector")
+@Category("io.jbock.util")
+@Description("A run of an instrumented Either collector")
+@StackTrace(false)
+final class CollectorEvent extends Event {
+
+    @Label("Name")
+    String name;
+
+    @Label("Elements")
+    long elements;
+
+    @Label("Lefts")
+    long lefts;
+
+    @Label("Failed")
+    @Description("Whether the result was a Left")
+    boolean failed;
+
+    @Label("Result Size")
+    long resultSize;
+
+    @Label("Combines")
+    long combines;
+
+    @Label("Combine Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long combineDuration;
+
+    @Label("Collect Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long collectDuration;
+
+    static void commit(String name, long elements, long lefts, boolean failed, long resultSize,
+                       long combines, long combineNanos, long totalNanos) {
+        CollectorEvent event = new CollectorEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.name = name;
+        event.elements = elements;
+        event.lefts = lefts;
+        event.failed = failed;
+        event.resultSize = resultSize;
+        event.combines = combines;
+        event.combineDuration = combineNanos;
+        event.collectDuration = totalNanos;
+        event.commit();
+    }
+}
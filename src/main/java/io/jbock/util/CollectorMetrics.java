@@ -0,0 +1,147 @@
+package io.jbock.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the runs of an instrumented collector.
+ * An instance can be shared by several collectors, and by collectors
+ * running concurrently; the counters are backed by {@link LongAdder}.
+ * The getters can be polled to bridge the values to a metrics system.
+ *
+ * @see Eithers#instrument(String, java.util.stream.Collector, CollectorMetrics)
+ */
+public final class CollectorMetrics {
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder failedRuns = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private final LongAdder lefts = new LongAdder();
+    private final LongAdder resultElements = new LongAdder();
+    private final LongAdder combines = new LongAdder();
+    private final LongAdder combineNanos = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    private CollectorMetrics() {
+    }
+
+    /**
+     * Creates a new instance with all counters at zero.
+     *
+     * @return a new instance
+     */
+    public static CollectorMetrics create() {
+        return new CollectorMetrics();
+    }
+
+    void record(long elements, long lefts, boolean failed, long resultElements,
+                long combines, long combineNanos, long totalNanos) {
+        this.runs.increment();
+        if (failed) {
+            this.failedRuns.increment();
+        }
+        this.elements.add(elements);
+        this.lefts.add(lefts);
+        this.resultElements.add(resultElements);
+        this.combines.add(combines);
+        this.combineNanos.add(combineNanos);
+        this.totalNanos.add(totalNanos);
+    }
+
+    /**
+     * Returns the number of completed collector runs.
+     *
+     * @return the number of runs
+     */
+    public long runs() {
+        return runs.sum();
+    }
+
+    /**
+     * Returns the number of runs that produced a Left.
+     *
+     * @return the number of failed runs
+     */
+    public long failedRuns() {
+        return failedRuns.sum();
+    }
+
+    /**
+     * Returns the number of input elements.
+     *
+     * @return the number of input elements
+     */
+    public long elements() {
+        return elements.sum();
+    }
+
+    /**
+     * Returns the number of input elements that were a Left.
+     *
+     * @return the number of Left input elements
+     */
+    public long lefts() {
+        return lefts.sum();
+    }
+
+    /**
+     * Returns the number of input elements that were a Right.
+     *
+     * @return the number of Right input elements
+     */
+    public long rights() {
+        return elements.sum() - lefts.sum();
+    }
+
+    /**
+     * Returns the total size of the results.
+     * If a result contains a collection, its size is counted,
+     * otherwise the result counts as one.
+     *
+     * @return the total size of the results
+     */
+    public long resultElements() {
+        return resultElements.sum();
+    }
+
+    /**
+     * Returns the number of invocations of the combiner,
+     * which is zero for sequential streams.
+     *
+     * @return the number of combines
+     */
+    public long combines() {
+        return combines.sum();
+    }
+
+    /**
+     * Returns the time spent in the combiner, in nanoseconds.
+     *
+     * @return the combine time
+     */
+    public long combineNanos() {
+        return combineNanos.sum();
+    }
+
+    /**
+     * Returns the time from the creation of the first result container
+     * to the end of the finisher, summed over all runs, in nanoseconds.
+     *
+     * @return the total time
+     */
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "CollectorMetrics[runs=" + runs()
+                + ", failedRuns=" + failedRuns()
+                + ", elements=" + elements()
+                + ", lefts=" + lefts()
+                + ", resultElements=" + resultElements()
+                + ", combines=" + combines()
+                + ", combineNanos=" + combineNanos()
+                + ", totalNanos=" + totalNanos()
+                + "]";
+    }
+}
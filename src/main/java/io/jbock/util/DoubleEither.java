@@ -0,0 +1,319 @@
+package io.jbock.util;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A specialization of {@link Either} where the RHS value is a {@code double}.
+ * A DoubleEither can either be a "Left", containing a LHS value or a "Right"
+ * containing a {@code double} value. The RHS value is not boxed.
+ *
+ * @param <L> the type of the LHS value
+ */
+public final class DoubleEither<L> {
+
+    // null if this is a Right
+    private final L left;
+    private final double value;
+
+    private DoubleEither(L left, double value) {
+        this.left = left;
+        this.value = value;
+    }
+
+    /**
+     * Returns a Left containing the given non-{@code null} LHS value.
+     *
+     * @param value the LHS value
+     * @param <L> the type of the LHS value
+     * @return a Left containing the LHS value
+     * @throws NullPointerException if value is {@code null}
+     */
+    public static <L> DoubleEither<L> left(L value) {
+        return new DoubleEither<>(requireNonNull(value), 0);
+    }
+
+    /**
+     * Returns a Right containing the given RHS value.
+     *
+     * @param value the RHS value
+     * @param <L> an arbitrary LHS type
+     * @return a Right containing the RHS value
+     */
+    public static <L> DoubleEither<L> right(double value) {
+        return new DoubleEither<>(null, value);
+    }
+
+    /**
+     * If this is a Right, returns a Right containing the result of applying
+     * the mapper function to the RHS value.
+     * Otherwise returns a Left containing the LHS value.
+     *
+     * @param mapper the function to apply to the RHS value, if this is a Right
+     * @return an equivalent instance if this is a Left, otherwise a Right containing
+     *         the result of applying {@code mapper} to the RHS value
+     */
+    public DoubleEither<L> map(DoubleUnaryOperator mapper) {
+        if (left != null) {
+            return this;
+        }
+        return new DoubleEither<>(null, mapper.applyAsDouble(value));
+    }
+
+    /**
+     * If this is a Right, returns a Right containing the result of applying
+     * the mapper function to the RHS value.
+     * Otherwise returns a Left containing the LHS value.
+     *
+     * @param mapper the function to apply to the RHS value, if this is a Right
+     * @param <R> the new RHS type
+     * @return a Left containing the LHS value, if this is a Left, otherwise a Right containing
+     *         the result of applying {@code mapper} to the RHS value
+     * @throws NullPointerException if the {@code mapper} returns a {@code null} result
+     */
+    public <R> Either<L, R> mapToObj(DoubleFunction<? extends R> mapper) {
+        if (left != null) {
+            return Either.left(left);
+        }
+        return Either.right(mapper.apply(value));
+    }
+
+    /**
+     * If this is a Right, returns a Right containing the result of applying
+     * the mapper function to the RHS value.
+     * Otherwise returns a Left containing the LHS value.
+     *
+     * @param mapper the function to apply to the RHS value, if this is a Right
+     * @return a Left containing the LHS value, if this is a Left, otherwise a Right containing
+     *         the result of applying {@code mapper} to the RHS value
+     */
+    public IntEither<L> mapToInt(DoubleToIntFunction mapper) {
+        if (left != null) {
+            return IntEither.left(left);
+        }
+        return IntEither.right(mapper.applyAsInt(value));
+    }
+
+    /**
+     * If this is a Right, returns a Right containing the result of applying
+     * the mapper function to the RHS value.
+     * Otherwise returns a Left containing the LHS value.
+     *
+     * @param mapper the function to apply to the RHS value, if this is a Right
+     * @return a Left containing the LHS value, if this is a Left, otherwise a Right containing
+     *         the result of applying {@code mapper} to the RHS value
+     */
+    public LongEither<L> mapToLong(DoubleToLongFunction mapper) {
+        if (left != null) {
+            return LongEither.left(left);
+        }
+        return LongEither.right(mapper.applyAsLong(value));
+    }
+
+    /**
+     * If this is a Right, returns the result of applying the mapper function to the RHS value.
+     * Otherwise returns a Left containing the LHS value.
+     *
+     * @param mapper a mapper function
+     * @return an equivalent instance if this is a Left, otherwise the result of
+     *         applying {@code mapper} to the RHS value
+     */
+    public DoubleEither<L> flatMap(DoubleFunction<? extends DoubleEither<? extends L>> mapper) {
+        if (left != null) {
+            return this;
+        }
+        @SuppressWarnings("unchecked")
+        DoubleEither<L> result = (DoubleEither<L>) mapper.apply(value);
+        return result;
+    }
+
+    /**
+     * If this is a Left, returns a Left containing the LHS value.
+     * If this is a Right and the RHS value matches the predicate,
+     * returns a Right containing the RHS value.
+     * Otherwise returns a Left containing the result of applying
+     * the {@code leftMapper} to the RHS value.
+     *
+     * @param predicate a predicate to apply to the RHS value
+     * @param leftMapper a function that produces a LHS value,
+     *                   if the predicate does not match
+     * @return filter result
+     */
+    public DoubleEither<L> filter(DoublePredicate predicate, DoubleFunction<? extends L> leftMapper) {
+        if (left != null || predicate.test(value)) {
+            return this;
+        }
+        return left(leftMapper.apply(value));
+    }
+
+    /**
+     * If this is a Left, returns a Left containing the result of applying the mapper function to the LHS value.
+     * Otherwise returns a Right containing the RHS value.
+     *
+     * @param mapper the function to apply to the LHS value
+     * @param <L2> the new LHS type
+     * @return an equivalent instance if this is a Right, otherwise a Left containing
+     *         the result of applying {@code mapper} to the LHS value
+     * @throws NullPointerException if the {@code mapper} returns a {@code null} result
+     */
+    public <L2> DoubleEither<L2> mapLeft(Function<? super L, ? extends L2> mapper) {
+        if (left == null) {
+            @SuppressWarnings("unchecked")
+            DoubleEither<L2> result = (DoubleEither<L2>) this;
+            return result;
+        }
+        return left(mapper.apply(left));
+    }
+
+    /**
+     * If this is a Left, returns the result of applying the {@code leftMapper} to the LHS value.
+     * Otherwise returns the result of applying the {@code rightMapper} to the RHS value.
+     *
+     * @param leftMapper the function to apply if this is a Left
+     * @param rightMapper the function to apply if this is a Right
+     * @param <U> the result type of both {@code leftMapper} and {@code rightMapper}
+     * @return the result of applying either {@code leftMapper} or {@code rightMapper}
+     */
+    public <U> U fold(
+            Function<? super L, ? extends U> leftMapper,
+            DoubleFunction<? extends U> rightMapper) {
+        return left != null ? leftMapper.apply(left) : rightMapper.apply(value);
+    }
+
+    /**
+     * If this is a Left, performs the {@code leftAction} with the LHS value.
+     * Otherwise performs the {@code rightAction} with the RHS value.
+     *
+     * @param leftAction action to run if this is a Left
+     * @param rightAction action to run if this is a Right
+     */
+    public void ifLeftOrElse(
+            Consumer<? super L> leftAction,
+            DoubleConsumer rightAction) {
+        if (left != null) {
+            leftAction.accept(left);
+        } else {
+            rightAction.accept(value);
+        }
+    }
+
+    /**
+     * If this is a Right, returns the RHS value.
+     * Otherwise throws an exception produced by the exception supplying function.
+     *
+     * @param exceptionSupplier exception supplying function
+     * @param <X> type of the exception
+     * @return the RHS value, if this is a Right
+     * @throws X the result of applying {@code exceptionSupplier} to the LHS value, if this is a Left
+     */
+    public <X extends Throwable> double orElseThrow(
+            Function<? super L, ? extends X> exceptionSupplier) throws X {
+        if (left != null) {
+            throw exceptionSupplier.apply(left);
+        }
+        return value;
+    }
+
+    /**
+     * If this is a Right, returns the RHS value, otherwise returns {@code other}.
+     *
+     * @param other the value to return if this is a Left
+     * @return the RHS value, if this is a Right, otherwise {@code other}
+     */
+    public double orElse(double other) {
+        return left != null ? other : value;
+    }
+
+    /**
+     * Returns {@code true} if this is a Left, otherwise {@code false}.
+     *
+     * @return {@code true} if this is a Left, otherwise {@code false}
+     */
+    public boolean isLeft() {
+        return left != null;
+    }
+
+    /**
+     * Returns {@code true} if this is a Right, otherwise {@code false}.
+     *
+     * @return {@code true} if this is a Right, otherwise {@code false}
+     */
+    public boolean isRight() {
+        return left == null;
+    }
+
+    /**
+     * If this is a Left, returns an {@code Optional} containing the LHS value.
+     * Otherwise returns an empty {@code Optional}.
+     *
+     * @return the LHS value if this is a Left, otherwise an empty {@code Optional}
+     */
+    public Optional<L> getLeft() {
+        return Optional.ofNullable(left);
+    }
+
+    /**
+     * If this is a Right, returns an {@code OptionalDouble} containing the RHS value.
+     * Otherwise returns an empty {@code OptionalDouble}.
+     *
+     * @return the RHS value if this is a Right, otherwise an empty {@code OptionalDouble}
+     */
+    public OptionalDouble getRight() {
+        return left != null ? OptionalDouble.empty() : OptionalDouble.of(value);
+    }
+
+    /**
+     * Returns an equivalent {@link Either}, where the RHS value is boxed.
+     *
+     * @return an equivalent {@code Either}
+     */
+    public Either<L, Double> boxed() {
+        return left != null ? Either.left(left) : Either.right(value);
+    }
+
+    /**
+     * Returns a string representation of this {@code DoubleEither}
+     * suitable for debugging.  The exact presentation format is unspecified and
+     * may vary between implementations and versions.
+     *
+     * @return the string representation of this instance
+     */
+    @Override
+    public String toString() {
+        return left != null
+                ? String.format("Left[%s]", left)
+                : String.format("Right[%s]", value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof DoubleEither)) {
+            return false;
+        }
+
+        DoubleEither<?> other = (DoubleEither<?>) obj;
+        if (left != null) {
+            return left.equals(other.left);
+        }
+        return other.left == null && Double.compare(value, other.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return left != null ? 31 * left.hashCode() : Double.hashCode(value);
+    }
+}
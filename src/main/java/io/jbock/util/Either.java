@@ -1,8 +1,16 @@
 package io.jbock.util;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A class that acts as a container for a value of one of two types. An Either
@@ -13,6 +21,9 @@ import java.util.function.Function;
  * a Right contains the result of a successful computation,
  * and a Left contains some kind of failure object.
  *
+ * <p>The only subclasses of {@code Either} are {@link Left} and {@link Right}.
+ * On Java 17 and later, this class is {@code sealed}.
+ *
  * @param <L> the type of the LHS value
  * @param <R> the type of the RHS value
  */
@@ -47,6 +58,753 @@ public abstract class Either<L, R> {
         return new Right<>(value);
     }
 
+    /**
+     * Returns a Left containing the given enum constant.
+     * For each enum constant, there is only one such instance,
+     * so this method does not allocate.
+     *
+     * @param constant the LHS value
+     * @param <E> the type of the LHS value
+     * @param <R> an arbitrary RHS type
+     * @return a Left containing the LHS value
+     * @throws NullPointerException if constant is {@code null}
+     */
+    public static <E extends Enum<E>, R> Either<E, R> enumLeft(E constant) {
+        return Left.ofEnum(constant);
+    }
+
+    /**
+     * Returns a Right containing the given boolean value.
+     * There are only two such instances,
+     * so this method does not allocate.
+     *
+     * @param value the RHS value
+     * @param <L> an arbitrary LHS type
+     * @return a Right containing the RHS value
+     */
+    public static <L> Either<L, Boolean> rightBoolean(boolean value) {
+        return value ? Right.ofTrue() : Right.ofFalse();
+    }
+
+    /**
+     * Returns a Right containing an empty, immutable list.
+     * There is only one such instance,
+     * so this method does not allocate.
+     *
+     * @param <L> an arbitrary LHS type
+     * @param <R> the type of the list elements
+     * @return a Right containing an empty list
+     */
+    public static <L, R> Either<L, List<R>> rightEmptyList() {
+        return Right.ofEmptyList();
+    }
+
+    /**
+     * Invokes the supplier and returns its result as a Right.
+     * If the supplier throws an {@code Exception}, returns a Left containing
+     * the exception instead. An {@code Error} is not caught.
+     * If the exception is an {@code InterruptedException},
+     * the interrupt status of the current thread is restored.
+     *
+     * @param supplier a computation that may throw
+     * @param <R> the type of the RHS value
+     * @return a Right containing the result of the supplier,
+     *         or a Left containing the exception
+     * @throws NullPointerException if the supplier returns {@code null}
+     */
+    public static <R> Either<Exception, R> catching(ThrowingSupplier<? extends R> supplier) {
+        R result;
+        try {
+            result = supplier.get();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return left(e);
+        }
+        return right(result);
+    }
+
+    /**
+     * Returns a function that applies the given function,
+     * and wraps its result as described in {@link #catching(ThrowingSupplier)}.
+     * The returned function can be passed to {@link #flatMap(Function)}
+     * or {@link Eithers#traverse(Iterable, Function)}.
+     *
+     * @param function a function that may throw
+     * @param <T> the type of the input
+     * @param <R> the type of the RHS value
+     * @return a function that does not throw checked exceptions
+     */
+    public static <T, R> Function<T, Either<Exception, R>> catching(
+            ThrowingFunction<? super T, ? extends R> function) {
+        return t -> catching(() -> function.apply(t));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns the first Left, in argument order.
+     * The type tags are checked directly, and the {@code zipper} is invoked once,
+     * so in the case where all arguments are Right, the only allocation
+     * is the returned Right.
+     *
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value, or the first Left
+     */
+    public static <L, A, B, R> Either<L, R> zip(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            BiFunction<? super A, ? super B, ? extends R> zipper) {
+        if (a.isLeft()) {
+            return castLeft(a);
+        }
+        if (b.isLeft()) {
+            return castLeft(b);
+        }
+        return right(zipper.apply(
+                a.rightOrNull(),
+                b.rightOrNull()));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns the first Left, in argument order.
+     *
+     * @see #zip(Either, Either, BiFunction)
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param c an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <C> the RHS type of {@code c}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value, or the first Left
+     */
+    public static <L, A, B, C, R> Either<L, R> zip(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            Either<? extends L, ? extends C> c,
+            Functions.Function3<? super A, ? super B, ? super C, ? extends R> zipper) {
+        if (a.isLeft()) {
+            return castLeft(a);
+        }
+        if (b.isLeft()) {
+            return castLeft(b);
+        }
+        if (c.isLeft()) {
+            return castLeft(c);
+        }
+        return right(zipper.apply(
+                a.rightOrNull(),
+                b.rightOrNull(),
+                c.rightOrNull()));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns the first Left, in argument order.
+     *
+     * @see #zip(Either, Either, BiFunction)
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param c an {@code Either}
+     * @param d an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <C> the RHS type of {@code c}
+     * @param <D> the RHS type of {@code d}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value, or the first Left
+     */
+    public static <L, A, B, C, D, R> Either<L, R> zip(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            Either<? extends L, ? extends C> c,
+            Either<? extends L, ? extends D> d,
+            Functions.Function4<? super A, ? super B, ? super C, ? super D, ? extends R> zipper) {
+        if (a.isLeft()) {
+            return castLeft(a);
+        }
+        if (b.isLeft()) {
+            return castLeft(b);
+        }
+        if (c.isLeft()) {
+            return castLeft(c);
+        }
+        if (d.isLeft()) {
+            return castLeft(d);
+        }
+        return right(zipper.apply(
+                a.rightOrNull(),
+                b.rightOrNull(),
+                c.rightOrNull(),
+                d.rightOrNull()));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns the first Left, in argument order.
+     *
+     * @see #zip(Either, Either, BiFunction)
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param c an {@code Either}
+     * @param d an {@code Either}
+     * @param e an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <C> the RHS type of {@code c}
+     * @param <D> the RHS type of {@code d}
+     * @param <E> the RHS type of {@code e}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value, or the first Left
+     */
+    public static <L, A, B, C, D, E, R> Either<L, R> zip(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            Either<? extends L, ? extends C> c,
+            Either<? extends L, ? extends D> d,
+            Either<? extends L, ? extends E> e,
+            Functions.Function5<? super A, ? super B, ? super C, ? super D, ? super E, ? extends R> zipper) {
+        if (a.isLeft()) {
+            return castLeft(a);
+        }
+        if (b.isLeft()) {
+            return castLeft(b);
+        }
+        if (c.isLeft()) {
+            return castLeft(c);
+        }
+        if (d.isLeft()) {
+            return castLeft(d);
+        }
+        if (e.isLeft()) {
+            return castLeft(e);
+        }
+        return right(zipper.apply(
+                a.rightOrNull(),
+                b.rightOrNull(),
+                c.rightOrNull(),
+                d.rightOrNull(),
+                e.rightOrNull()));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns the first Left, in argument order.
+     *
+     * @see #zip(Either, Either, BiFunction)
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param c an {@code Either}
+     * @param d an {@code Either}
+     * @param e an {@code Either}
+     * @param f an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <C> the RHS type of {@code c}
+     * @param <D> the RHS type of {@code d}
+     * @param <E> the RHS type of {@code e}
+     * @param <F> the RHS type of {@code f}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value, or the first Left
+     */
+    public static <L, A, B, C, D, E, F, R> Either<L, R> zip(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            Either<? extends L, ? extends C> c,
+            Either<? extends L, ? extends D> d,
+            Either<? extends L, ? extends E> e,
+            Either<? extends L, ? extends F> f,
+            Functions.Function6<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? extends R> zipper) {
+        if (a.isLeft()) {
+            return castLeft(a);
+        }
+        if (b.isLeft()) {
+            return castLeft(b);
+        }
+        if (c.isLeft()) {
+            return castLeft(c);
+        }
+        if (d.isLeft()) {
+            return castLeft(d);
+        }
+        if (e.isLeft()) {
+            return castLeft(e);
+        }
+        if (f.isLeft()) {
+            return castLeft(f);
+        }
+        return right(zipper.apply(
+                a.rightOrNull(),
+                b.rightOrNull(),
+                c.rightOrNull(),
+                d.rightOrNull(),
+                e.rightOrNull(),
+                f.rightOrNull()));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns the first Left, in argument order.
+     *
+     * @see #zip(Either, Either, BiFunction)
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param c an {@code Either}
+     * @param d an {@code Either}
+     * @param e an {@code Either}
+     * @param f an {@code Either}
+     * @param g an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <C> the RHS type of {@code c}
+     * @param <D> the RHS type of {@code d}
+     * @param <E> the RHS type of {@code e}
+     * @param <F> the RHS type of {@code f}
+     * @param <G> the RHS type of {@code g}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value, or the first Left
+     */
+    public static <L, A, B, C, D, E, F, G, R> Either<L, R> zip(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            Either<? extends L, ? extends C> c,
+            Either<? extends L, ? extends D> d,
+            Either<? extends L, ? extends E> e,
+            Either<? extends L, ? extends F> f,
+            Either<? extends L, ? extends G> g,
+            Functions.Function7<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? extends R> zipper) {
+        if (a.isLeft()) {
+            return castLeft(a);
+        }
+        if (b.isLeft()) {
+            return castLeft(b);
+        }
+        if (c.isLeft()) {
+            return castLeft(c);
+        }
+        if (d.isLeft()) {
+            return castLeft(d);
+        }
+        if (e.isLeft()) {
+            return castLeft(e);
+        }
+        if (f.isLeft()) {
+            return castLeft(f);
+        }
+        if (g.isLeft()) {
+            return castLeft(g);
+        }
+        return right(zipper.apply(
+                a.rightOrNull(),
+                b.rightOrNull(),
+                c.rightOrNull(),
+                d.rightOrNull(),
+                e.rightOrNull(),
+                f.rightOrNull(),
+                g.rightOrNull()));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns the first Left, in argument order.
+     *
+     * @see #zip(Either, Either, BiFunction)
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param c an {@code Either}
+     * @param d an {@code Either}
+     * @param e an {@code Either}
+     * @param f an {@code Either}
+     * @param g an {@code Either}
+     * @param h an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <C> the RHS type of {@code c}
+     * @param <D> the RHS type of {@code d}
+     * @param <E> the RHS type of {@code e}
+     * @param <F> the RHS type of {@code f}
+     * @param <G> the RHS type of {@code g}
+     * @param <H> the RHS type of {@code h}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value, or the first Left
+     */
+    public static <L, A, B, C, D, E, F, G, H, R> Either<L, R> zip(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            Either<? extends L, ? extends C> c,
+            Either<? extends L, ? extends D> d,
+            Either<? extends L, ? extends E> e,
+            Either<? extends L, ? extends F> f,
+            Either<? extends L, ? extends G> g,
+            Either<? extends L, ? extends H> h,
+            Functions.Function8<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? super H, ? extends R> zipper) {
+        if (a.isLeft()) {
+            return castLeft(a);
+        }
+        if (b.isLeft()) {
+            return castLeft(b);
+        }
+        if (c.isLeft()) {
+            return castLeft(c);
+        }
+        if (d.isLeft()) {
+            return castLeft(d);
+        }
+        if (e.isLeft()) {
+            return castLeft(e);
+        }
+        if (f.isLeft()) {
+            return castLeft(f);
+        }
+        if (g.isLeft()) {
+            return castLeft(g);
+        }
+        if (h.isLeft()) {
+            return castLeft(h);
+        }
+        return right(zipper.apply(
+                a.rightOrNull(),
+                b.rightOrNull(),
+                c.rightOrNull(),
+                d.rightOrNull(),
+                e.rightOrNull(),
+                f.rightOrNull(),
+                g.rightOrNull(),
+                h.rightOrNull()));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns a Left containing the LHS values of all Left arguments,
+     * in argument order.
+     * In the case where all arguments are Right, the only allocation
+     * is the returned Right.
+     *
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value,
+     *         or a Left containing a nonempty list of all LHS values
+     */
+    public static <L, A, B, R> Either<List<L>, R> zipAll(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            BiFunction<? super A, ? super B, ? extends R> zipper) {
+        if (a.isRight() && b.isRight()) {
+            return right(zipper.apply(
+                    a.rightOrNull(),
+                    b.rightOrNull()));
+        }
+        return left(leftsOf(a, b));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns a Left containing the LHS values of all Left arguments,
+     * in argument order.
+     *
+     * @see #zipAll(Either, Either, BiFunction)
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param c an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <C> the RHS type of {@code c}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value,
+     *         or a Left containing a nonempty list of all LHS values
+     */
+    public static <L, A, B, C, R> Either<List<L>, R> zipAll(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            Either<? extends L, ? extends C> c,
+            Functions.Function3<? super A, ? super B, ? super C, ? extends R> zipper) {
+        if (a.isRight() && b.isRight() && c.isRight()) {
+            return right(zipper.apply(
+                    a.rightOrNull(),
+                    b.rightOrNull(),
+                    c.rightOrNull()));
+        }
+        return left(leftsOf(a, b, c));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns a Left containing the LHS values of all Left arguments,
+     * in argument order.
+     *
+     * @see #zipAll(Either, Either, BiFunction)
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param c an {@code Either}
+     * @param d an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <C> the RHS type of {@code c}
+     * @param <D> the RHS type of {@code d}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value,
+     *         or a Left containing a nonempty list of all LHS values
+     */
+    public static <L, A, B, C, D, R> Either<List<L>, R> zipAll(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            Either<? extends L, ? extends C> c,
+            Either<? extends L, ? extends D> d,
+            Functions.Function4<? super A, ? super B, ? super C, ? super D, ? extends R> zipper) {
+        if (a.isRight() && b.isRight() && c.isRight() && d.isRight()) {
+            return right(zipper.apply(
+                    a.rightOrNull(),
+                    b.rightOrNull(),
+                    c.rightOrNull(),
+                    d.rightOrNull()));
+        }
+        return left(leftsOf(a, b, c, d));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns a Left containing the LHS values of all Left arguments,
+     * in argument order.
+     *
+     * @see #zipAll(Either, Either, BiFunction)
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param c an {@code Either}
+     * @param d an {@code Either}
+     * @param e an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <C> the RHS type of {@code c}
+     * @param <D> the RHS type of {@code d}
+     * @param <E> the RHS type of {@code e}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value,
+     *         or a Left containing a nonempty list of all LHS values
+     */
+    public static <L, A, B, C, D, E, R> Either<List<L>, R> zipAll(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            Either<? extends L, ? extends C> c,
+            Either<? extends L, ? extends D> d,
+            Either<? extends L, ? extends E> e,
+            Functions.Function5<? super A, ? super B, ? super C, ? super D, ? super E, ? extends R> zipper) {
+        if (a.isRight() && b.isRight() && c.isRight() && d.isRight() && e.isRight()) {
+            return right(zipper.apply(
+                    a.rightOrNull(),
+                    b.rightOrNull(),
+                    c.rightOrNull(),
+                    d.rightOrNull(),
+                    e.rightOrNull()));
+        }
+        return left(leftsOf(a, b, c, d, e));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns a Left containing the LHS values of all Left arguments,
+     * in argument order.
+     *
+     * @see #zipAll(Either, Either, BiFunction)
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param c an {@code Either}
+     * @param d an {@code Either}
+     * @param e an {@code Either}
+     * @param f an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <C> the RHS type of {@code c}
+     * @param <D> the RHS type of {@code d}
+     * @param <E> the RHS type of {@code e}
+     * @param <F> the RHS type of {@code f}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value,
+     *         or a Left containing a nonempty list of all LHS values
+     */
+    public static <L, A, B, C, D, E, F, R> Either<List<L>, R> zipAll(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            Either<? extends L, ? extends C> c,
+            Either<? extends L, ? extends D> d,
+            Either<? extends L, ? extends E> e,
+            Either<? extends L, ? extends F> f,
+            Functions.Function6<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? extends R> zipper) {
+        if (a.isRight() && b.isRight() && c.isRight() && d.isRight() && e.isRight() && f.isRight()) {
+            return right(zipper.apply(
+                    a.rightOrNull(),
+                    b.rightOrNull(),
+                    c.rightOrNull(),
+                    d.rightOrNull(),
+                    e.rightOrNull(),
+                    f.rightOrNull()));
+        }
+        return left(leftsOf(a, b, c, d, e, f));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns a Left containing the LHS values of all Left arguments,
+     * in argument order.
+     *
+     * @see #zipAll(Either, Either, BiFunction)
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param c an {@code Either}
+     * @param d an {@code Either}
+     * @param e an {@code Either}
+     * @param f an {@code Either}
+     * @param g an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <C> the RHS type of {@code c}
+     * @param <D> the RHS type of {@code d}
+     * @param <E> the RHS type of {@code e}
+     * @param <F> the RHS type of {@code f}
+     * @param <G> the RHS type of {@code g}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value,
+     *         or a Left containing a nonempty list of all LHS values
+     */
+    public static <L, A, B, C, D, E, F, G, R> Either<List<L>, R> zipAll(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            Either<? extends L, ? extends C> c,
+            Either<? extends L, ? extends D> d,
+            Either<? extends L, ? extends E> e,
+            Either<? extends L, ? extends F> f,
+            Either<? extends L, ? extends G> g,
+            Functions.Function7<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? extends R> zipper) {
+        if (a.isRight() && b.isRight() && c.isRight() && d.isRight() && e.isRight() && f.isRight() && g.isRight()) {
+            return right(zipper.apply(
+                    a.rightOrNull(),
+                    b.rightOrNull(),
+                    c.rightOrNull(),
+                    d.rightOrNull(),
+                    e.rightOrNull(),
+                    f.rightOrNull(),
+                    g.rightOrNull()));
+        }
+        return left(leftsOf(a, b, c, d, e, f, g));
+    }
+
+    /**
+     * If all arguments are Right, returns a Right containing the result of
+     * applying the {@code zipper} function to their RHS values.
+     * Otherwise returns a Left containing the LHS values of all Left arguments,
+     * in argument order.
+     *
+     * @see #zipAll(Either, Either, BiFunction)
+     * @param a an {@code Either}
+     * @param b an {@code Either}
+     * @param c an {@code Either}
+     * @param d an {@code Either}
+     * @param e an {@code Either}
+     * @param f an {@code Either}
+     * @param g an {@code Either}
+     * @param h an {@code Either}
+     * @param zipper a function that combines the RHS values
+     * @param <L> the LHS type
+     * @param <A> the RHS type of {@code a}
+     * @param <B> the RHS type of {@code b}
+     * @param <C> the RHS type of {@code c}
+     * @param <D> the RHS type of {@code d}
+     * @param <E> the RHS type of {@code e}
+     * @param <F> the RHS type of {@code f}
+     * @param <G> the RHS type of {@code g}
+     * @param <H> the RHS type of {@code h}
+     * @param <R> the RHS type of the result
+     * @return a Right containing the combined value,
+     *         or a Left containing a nonempty list of all LHS values
+     */
+    public static <L, A, B, C, D, E, F, G, H, R> Either<List<L>, R> zipAll(
+            Either<? extends L, ? extends A> a,
+            Either<? extends L, ? extends B> b,
+            Either<? extends L, ? extends C> c,
+            Either<? extends L, ? extends D> d,
+            Either<? extends L, ? extends E> e,
+            Either<? extends L, ? extends F> f,
+            Either<? extends L, ? extends G> g,
+            Either<? extends L, ? extends H> h,
+            Functions.Function8<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? super H, ? extends R> zipper) {
+        if (a.isRight() && b.isRight() && c.isRight() && d.isRight() && e.isRight() && f.isRight() && g.isRight() && h.isRight()) {
+            return right(zipper.apply(
+                    a.rightOrNull(),
+                    b.rightOrNull(),
+                    c.rightOrNull(),
+                    d.rightOrNull(),
+                    e.rightOrNull(),
+                    f.rightOrNull(),
+                    g.rightOrNull(),
+                    h.rightOrNull()));
+        }
+        return left(leftsOf(a, b, c, d, e, f, g, h));
+    }
+
+    @SafeVarargs
+    private static <L> List<L> leftsOf(Either<? extends L, ?>... eithers) {
+        List<L> result = new ArrayList<>(eithers.length);
+        for (Either<? extends L, ?> either : eithers) {
+            if (either.isLeft()) {
+                result.add(either.leftOrNull());
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static <L, R> Either<L, R> castLeft(Either<? extends L, ?> left) {
+        @SuppressWarnings("unchecked")
+        Either<L, R> result = (Either<L, R>) left;
+        return result;
+    }
+
     /**
      * If this is a Right, returns a Right containing the result of applying
      * the mapper function to the RHS value.
@@ -61,6 +819,45 @@ public abstract class Either<L, R> {
     public abstract <R2> Either<L, R2> map(
             Function<? super R, ? extends R2> mapper);
 
+    /**
+     * If this is a Right, returns a Right containing the result of applying
+     * the mapper function to the RHS value.
+     * Otherwise returns a Left containing the LHS value.
+     * The resulting {@link IntEither} does not box its RHS value.
+     *
+     * @param mapper the function to apply to the RHS value, if this is a Right
+     * @return a Left containing the LHS value, if this is a Left, otherwise a Right containing
+     *         the result of applying {@code mapper} to the RHS value
+     */
+    public abstract IntEither<L> mapToInt(
+            ToIntFunction<? super R> mapper);
+
+    /**
+     * If this is a Right, returns a Right containing the result of applying
+     * the mapper function to the RHS value.
+     * Otherwise returns a Left containing the LHS value.
+     * The resulting {@link LongEither} does not box its RHS value.
+     *
+     * @param mapper the function to apply to the RHS value, if this is a Right
+     * @return a Left containing the LHS value, if this is a Left, otherwise a Right containing
+     *         the result of applying {@code mapper} to the RHS value
+     */
+    public abstract LongEither<L> mapToLong(
+            ToLongFunction<? super R> mapper);
+
+    /**
+     * If this is a Right, returns a Right containing the result of applying
+     * the mapper function to the RHS value.
+     * Otherwise returns a Left containing the LHS value.
+     * The resulting {@link DoubleEither} does not box its RHS value.
+     *
+     * @param mapper the function to apply to the RHS value, if this is a Right
+     * @return a Left containing the LHS value, if this is a Left, otherwise a Right containing
+     *         the result of applying {@code mapper} to the RHS value
+     */
+    public abstract DoubleEither<L> mapToDouble(
+            ToDoubleFunction<? super R> mapper);
+
     /**
      * If this is a Right, returns the result of applying the mapper function to the RHS value.
      * Otherwise returns a Left containing the LHS value.
@@ -86,6 +883,23 @@ public abstract class Either<L, R> {
     public abstract Either<L, R> filter(
             Function<? super R, Optional<? extends L>> predicate);
 
+    /**
+     * If this is a Left, returns a Left containing the LHS value.
+     * If this is a Right and the RHS value matches the predicate,
+     * returns a Right containing the RHS value.
+     * Otherwise returns a Left containing the result of applying
+     * the {@code leftMapper} to the RHS value.
+     *
+     * @param predicate a predicate to apply to the RHS value
+     * @param leftMapper a function that produces a LHS value,
+     *                   if the predicate does not match
+     * @return filter result
+     * @throws NullPointerException if the {@code leftMapper} returns a {@code null} result
+     */
+    public abstract Either<L, R> filter(
+            Predicate<? super R> predicate,
+            Function<? super R, ? extends L> leftMapper);
+
     /**
      * If this is a Left, returns a Left containing the result of applying the mapper function to the LHS value.
      * Otherwise returns a Right containing the RHS value.
@@ -124,6 +938,23 @@ public abstract class Either<L, R> {
     public abstract Either<L, R> filterLeft(
             Function<? super L, Optional<? extends R>> predicate);
 
+    /**
+     * If this is a Right, returns a Right containing the RHS value.
+     * If this is a Left and the LHS value matches the predicate,
+     * returns a Left containing the LHS value.
+     * Otherwise returns a Right containing the result of applying
+     * the {@code rightMapper} to the LHS value.
+     *
+     * @param predicate a predicate to apply to the LHS value
+     * @param rightMapper a function that produces a RHS value,
+     *                    if the predicate does not match
+     * @return filter result
+     * @throws NullPointerException if the {@code rightMapper} returns a {@code null} result
+     */
+    public abstract Either<L, R> filterLeft(
+            Predicate<? super L> predicate,
+            Function<? super L, ? extends R> rightMapper);
+
     /**
      * If this is a Left, returns the result of applying the {@code leftMapper} to the LHS value.
      * Otherwise returns the result of applying the {@code rightMapper} to the RHS value.
@@ -137,6 +968,45 @@ public abstract class Either<L, R> {
             Function<? super L, ? extends U> leftMapper,
             Function<? super R, ? extends U> rightMapper);
 
+    /**
+     * If this is a Left, returns the result of applying the {@code leftMapper} to the LHS value.
+     * Otherwise returns the result of applying the {@code rightMapper} to the RHS value.
+     * Unlike {@link #fold(Function, Function) fold}, the result is not boxed.
+     *
+     * @param leftMapper the function to apply if this is a Left
+     * @param rightMapper the function to apply if this is a Right
+     * @return the result of applying either {@code leftMapper} or {@code rightMapper}
+     */
+    public abstract int foldToInt(
+            ToIntFunction<? super L> leftMapper,
+            ToIntFunction<? super R> rightMapper);
+
+    /**
+     * If this is a Left, returns the result of applying the {@code leftMapper} to the LHS value.
+     * Otherwise returns the result of applying the {@code rightMapper} to the RHS value.
+     * Unlike {@link #fold(Function, Function) fold}, the result is not boxed.
+     *
+     * @param leftMapper the function to apply if this is a Left
+     * @param rightMapper the function to apply if this is a Right
+     * @return the result of applying either {@code leftMapper} or {@code rightMapper}
+     */
+    public abstract long foldToLong(
+            ToLongFunction<? super L> leftMapper,
+            ToLongFunction<? super R> rightMapper);
+
+    /**
+     * If this is a Left, returns the result of testing the LHS value with the {@code leftPredicate}.
+     * Otherwise returns the result of testing the RHS value with the {@code rightPredicate}.
+     * Unlike {@link #fold(Function, Function) fold}, the result is not boxed.
+     *
+     * @param leftPredicate the predicate to apply if this is a Left
+     * @param rightPredicate the predicate to apply if this is a Right
+     * @return the result of applying either {@code leftPredicate} or {@code rightPredicate}
+     */
+    public abstract boolean foldToBoolean(
+            Predicate<? super L> leftPredicate,
+            Predicate<? super R> rightPredicate);
+
     /**
      * If this is a Left, performs the {@code leftAction} with the LHS value.
      * Otherwise performs the {@code rightAction} with the RHS value.
@@ -160,6 +1030,18 @@ public abstract class Either<L, R> {
     public abstract <X extends Throwable> R orElseThrow(
             Function<? super L, ? extends X> exceptionSupplier) throws X;
 
+    /**
+     * If this is a Right, returns the RHS value.
+     * Otherwise throws a {@link LeftException} containing the LHS value.
+     * The exception does not capture a stack trace.
+     *
+     * @return the RHS value, if this is a Right
+     * @throws LeftException if this is a Left
+     */
+    public final R orElseThrow() {
+        return orElseThrow(LeftException::of);
+    }
+
     /**
      * Returns {@code true} if this is a Left, otherwise {@code false}.
      *
@@ -192,6 +1074,38 @@ public abstract class Either<L, R> {
      */
     public abstract Optional<R> getRight();
 
+    /**
+     * If this is a Left, returns the LHS value, otherwise returns {@code null}.
+     * Unlike {@link #getLeft()}, this method does not allocate.
+     *
+     * @return the LHS value if this is a Left, otherwise {@code null}
+     */
+    public abstract L leftOrNull();
+
+    /**
+     * If this is a Right, returns the RHS value, otherwise returns {@code null}.
+     * Unlike {@link #getRight()}, this method does not allocate.
+     *
+     * @return the RHS value if this is a Right, otherwise {@code null}
+     */
+    public abstract R rightOrNull();
+
+    /**
+     * If this is a Left, returns the LHS value, otherwise returns {@code other}.
+     *
+     * @param other the value to return if this is a Right, may be {@code null}
+     * @return the LHS value if this is a Left, otherwise {@code other}
+     */
+    public abstract L leftOrElse(L other);
+
+    /**
+     * If this is a Right, returns the RHS value, otherwise returns {@code other}.
+     *
+     * @param other the value to return if this is a Left, may be {@code null}
+     * @return the RHS value if this is a Right, otherwise {@code other}
+     */
+    public abstract R rightOrElse(R other);
+
     /**
      * Returns a string representation of this {@code Either}
      * suitable for debugging.  The exact presentation format is unspecified and
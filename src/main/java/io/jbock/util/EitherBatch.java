@@ -0,0 +1,499 @@
+package io.jbock.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, indexed sequence of {@link Either} values in columnar form.
+ * The type tags are stored as a bitset, and the LHS and RHS values
+ * are stored in two separate, compact arrays.
+ * Compared to a {@code List<Either<L, R>>}, this saves one object
+ * per element, and a batch can be transformed one column at a time.
+ * The {@code Either} instances are only created on demand,
+ * by {@link #get(int)}, {@link #toList()} or {@link #stream()}.
+ *
+ * <p>Indexed access takes constant time.
+ *
+ * @see Eithers#toBatch()
+ * @param <L> the LHS type
+ * @param <R> the RHS type
+ */
+public final class EitherBatch<L, R> {
+
+    private static final long[] NO_TAGS = new long[0];
+    private static final Object[] NO_VALUES = new Object[0];
+    private static final EitherBatch<?, ?> EMPTY = new EitherBatch<>(0, NO_TAGS, NO_VALUES, NO_VALUES);
+
+    private final int size;
+    private final long[] tags; // set bit means Left
+    private final int[] rank; // number of Lefts before each word of tags
+    private final Object[] lefts;
+    private final Object[] rights;
+
+    private EitherBatch(int size, long[] tags, Object[] lefts, Object[] rights) {
+        this(size, tags, rank(tags), lefts, rights);
+    }
+
+    private EitherBatch(int size, long[] tags, int[] rank, Object[] lefts, Object[] rights) {
+        this.size = size;
+        this.tags = tags;
+        this.rank = rank;
+        this.lefts = lefts;
+        this.rights = rights;
+    }
+
+    /**
+     * A mutable builder for {@link EitherBatch}.
+     * Builders are not thread-safe.
+     *
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     */
+    public static final class Builder<L, R> {
+
+        private int size;
+        private long[] tags;
+        private Object[] lefts = NO_VALUES;
+        private int leftCount;
+        private Object[] rights;
+        private int rightCount;
+
+        private Builder(int expectedSize) {
+            this.tags = new long[words(expectedSize)];
+            this.rights = expectedSize == 0 ? NO_VALUES : new Object[expectedSize];
+        }
+
+        /**
+         * Appends a Left.
+         *
+         * @param value the LHS value
+         * @return this builder
+         */
+        public Builder<L, R> addLeft(L value) {
+            requireNonNull(value);
+            ensureTagCapacity();
+            if (leftCount == lefts.length) {
+                lefts = Arrays.copyOf(lefts, grow(lefts.length));
+            }
+            tags[size >>> 6] |= 1L << size;
+            lefts[leftCount++] = value;
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends a Right.
+         *
+         * @param value the RHS value
+         * @return this builder
+         */
+        public Builder<L, R> addRight(R value) {
+            requireNonNull(value);
+            ensureTagCapacity();
+            if (rightCount == rights.length) {
+                rights = Arrays.copyOf(rights, grow(rights.length));
+            }
+            rights[rightCount++] = value;
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends the value of the given {@code Either}.
+         *
+         * @param either an {@code Either}
+         * @return this builder
+         */
+        public Builder<L, R> add(Either<? extends L, ? extends R> either) {
+            if (either.isLeft()) {
+                return addLeft(either.leftOrNull());
+            }
+            return addRight(either.rightOrNull());
+        }
+
+        /**
+         * Appends all elements of the given {@code Iterable}.
+         *
+         * @param eithers the elements to add
+         * @return this builder
+         */
+        public Builder<L, R> addAll(Iterable<? extends Either<? extends L, ? extends R>> eithers) {
+            for (Either<? extends L, ? extends R> either : eithers) {
+                add(either);
+            }
+            return this;
+        }
+
+        Builder<L, R> combine(Builder<L, R> other) {
+            for (int i = 0, l = 0, r = 0; i < other.size; i++) {
+                if ((other.tags[i >>> 6] & (1L << i)) != 0) {
+                    addLeft(cast(other.lefts[l++]));
+                } else {
+                    addRight(cast(other.rights[r++]));
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Returns a batch containing the elements that were added so far.
+         * The builder can still be used afterwards.
+         *
+         * @return a new batch
+         */
+        public EitherBatch<L, R> build() {
+            if (size == 0) {
+                return empty();
+            }
+            return new EitherBatch<>(size,
+                    Arrays.copyOf(tags, words(size)),
+                    leftCount == 0 ? NO_VALUES : Arrays.copyOf(lefts, leftCount),
+                    rightCount == 0 ? NO_VALUES : Arrays.copyOf(rights, rightCount));
+        }
+
+        private void ensureTagCapacity() {
+            if ((size >>> 6) == tags.length) {
+                tags = Arrays.copyOf(tags, Math.max(1, tags.length * 2));
+            }
+        }
+
+        private static int grow(int length) {
+            return Math.max(8, length + (length >> 1));
+        }
+    }
+
+    /**
+     * Returns an empty batch.
+     *
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     * @return an empty batch
+     */
+    public static <L, R> EitherBatch<L, R> empty() {
+        @SuppressWarnings("unchecked")
+        EitherBatch<L, R> result = (EitherBatch<L, R>) EMPTY;
+        return result;
+    }
+
+    /**
+     * Returns a new builder.
+     *
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     * @return a new builder
+     */
+    public static <L, R> Builder<L, R> builder() {
+        return new Builder<>(16);
+    }
+
+    /**
+     * Returns a new builder that is presized for the given number of elements.
+     *
+     * @param expectedSize the expected number of elements
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     * @return a new builder
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public static <L, R> Builder<L, R> builder(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        return new Builder<>(expectedSize);
+    }
+
+    /**
+     * Returns a batch that contains the given elements, in the same order.
+     *
+     * @param eithers a list of {@code Either}
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     * @return a new batch
+     */
+    public static <L, R> EitherBatch<L, R> of(List<? extends Either<? extends L, ? extends R>> eithers) {
+        return EitherBatch.<L, R>builder(eithers.size()).addAll(eithers).build();
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of Left elements.
+     *
+     * @return the number of Left elements
+     */
+    public int leftCount() {
+        return lefts.length;
+    }
+
+    /**
+     * Returns the number of Right elements.
+     *
+     * @return the number of Right elements
+     */
+    public int rightCount() {
+        return rights.length;
+    }
+
+    /**
+     * Returns {@code true} if the element at the given index is a Left.
+     *
+     * @param index an index
+     * @return {@code true} if the element at the given index is a Left
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean isLeft(int index) {
+        checkIndex(index);
+        return isLeftUnchecked(index);
+    }
+
+    /**
+     * Returns the LHS value at the given index, or {@code null}
+     * if the element at this index is a Right.
+     *
+     * @param index an index
+     * @return the LHS value, or {@code null}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public L leftOrNull(int index) {
+        checkIndex(index);
+        if (!isLeftUnchecked(index)) {
+            return null;
+        }
+        return cast(lefts[leftsBefore(index)]);
+    }
+
+    /**
+     * Returns the RHS value at the given index, or {@code null}
+     * if the element at this index is a Left.
+     *
+     * @param index an index
+     * @return the RHS value, or {@code null}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public R rightOrNull(int index) {
+        checkIndex(index);
+        if (isLeftUnchecked(index)) {
+            return null;
+        }
+        return cast(rights[index - leftsBefore(index)]);
+    }
+
+    /**
+     * Returns the element at the given index, as a new {@code Either}.
+     *
+     * @param index an index
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Either<L, R> get(int index) {
+        checkIndex(index);
+        int l = leftsBefore(index);
+        return isLeftUnchecked(index)
+                ? Either.left(cast(lefts[l]))
+                : Either.right(cast(rights[index - l]));
+    }
+
+    /**
+     * Returns an unmodifiable view of the LHS values, in order.
+     *
+     * @return the LHS values
+     */
+    public List<L> lefts() {
+        return view(lefts);
+    }
+
+    /**
+     * Returns an unmodifiable view of the RHS values, in order.
+     *
+     * @return the RHS values
+     */
+    public List<R> rights() {
+        return view(rights);
+    }
+
+    /**
+     * Returns a batch with the same tags and LHS values,
+     * where the {@code mapper} was applied to each RHS value.
+     * The tags and the LHS column are shared with this batch.
+     *
+     * @param mapper a function to apply to each RHS value
+     * @param <R2> the new RHS type
+     * @return a new batch
+     */
+    public <R2> EitherBatch<L, R2> map(Function<? super R, ? extends R2> mapper) {
+        Object[] result = new Object[rights.length];
+        for (int i = 0; i < rights.length; i++) {
+            result[i] = requireNonNull(mapper.apply(cast(rights[i])));
+        }
+        return new EitherBatch<>(size, tags, rank, lefts, result);
+    }
+
+    /**
+     * Returns a batch with the same tags and RHS values,
+     * where the {@code mapper} was applied to each LHS value.
+     * The tags and the RHS column are shared with this batch.
+     *
+     * @param mapper a function to apply to each LHS value
+     * @param <L2> the new LHS type
+     * @return a new batch
+     */
+    public <L2> EitherBatch<L2, R> mapLeft(Function<? super L, ? extends L2> mapper) {
+        Object[] result = new Object[lefts.length];
+        for (int i = 0; i < lefts.length; i++) {
+            result[i] = requireNonNull(mapper.apply(cast(lefts[i])));
+        }
+        return new EitherBatch<>(size, tags, rank, result, rights);
+    }
+
+    /**
+     * Performs one of the actions for each element, in order.
+     *
+     * @param leftAction the action to perform on each LHS value
+     * @param rightAction the action to perform on each RHS value
+     */
+    public void forEach(Consumer<? super L> leftAction, Consumer<? super R> rightAction) {
+        for (int i = 0, l = 0, r = 0; i < size; i++) {
+            if (isLeftUnchecked(i)) {
+                leftAction.accept(cast(lefts[l++]));
+            } else {
+                rightAction.accept(cast(rights[r++]));
+            }
+        }
+    }
+
+    /**
+     * Returns the first LHS value, in a Left, if there is any.
+     * Otherwise returns a Right containing all RHS values.
+     * This is equivalent to collecting {@link #stream()} with
+     * {@link Eithers#firstFailure()}, but reads the columns directly.
+     *
+     * @return a Left containing the first LHS value, or a Right containing the RHS values
+     */
+    public Either<L, List<R>> firstFailure() {
+        if (lefts.length != 0) {
+            return Either.left(cast(lefts[0]));
+        }
+        return Either.right(rights());
+    }
+
+    /**
+     * Returns a Left containing all LHS values, if there is any.
+     * Otherwise returns a Right containing all RHS values.
+     * This is equivalent to collecting {@link #stream()} with
+     * {@link Eithers#allFailures()}, but reads the columns directly.
+     *
+     * @return a Left containing the LHS values, or a Right containing the RHS values
+     */
+    public Either<List<L>, List<R>> allFailures() {
+        if (lefts.length != 0) {
+            return Either.left(lefts());
+        }
+        return Either.right(rights());
+    }
+
+    /**
+     * Returns a stream of the elements, as new {@code Either} instances.
+     *
+     * @return a stream of {@code Either}
+     */
+    public Stream<Either<L, R>> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Returns a new list containing the elements, as new {@code Either} instances.
+     *
+     * @return an unmodifiable list of {@code Either}
+     */
+    public List<Either<L, R>> toList() {
+        Object[] result = new Object[size];
+        for (int i = 0, l = 0, r = 0; i < size; i++) {
+            result[i] = isLeftUnchecked(i)
+                    ? Either.left(lefts[l++])
+                    : Either.right(rights[r++]);
+        }
+        return view(result);
+    }
+
+    @Override
+    public String toString() {
+        return "EitherBatch[size=" + size + ", lefts=" + lefts.length + ", rights=" + rights.length + "]";
+    }
+
+    private boolean isLeftUnchecked(int index) {
+        return (tags[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private int leftsBefore(int index) {
+        int word = index >>> 6;
+        long mask = (1L << index) - 1; // bits below index, within its word
+        return rank[word] + Long.bitCount(tags[word] & mask);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    private static int[] rank(long[] tags) {
+        int[] rank = new int[tags.length];
+        int count = 0;
+        for (int i = 0; i < tags.length; i++) {
+            rank[i] = count;
+            count += Long.bitCount(tags[i]);
+        }
+        return rank;
+    }
+
+    private static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    private static <E> List<E> view(Object[] values) {
+        return new ArrayView<>(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object o) {
+        return (T) o;
+    }
+
+    private static final class ArrayView<E> extends AbstractList<E> implements RandomAccess {
+        private final Object[] values;
+
+        ArrayView(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public E get(int index) {
+            return cast(values[index]);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return values.clone();
+        }
+    }
+}
@@ -0,0 +1,495 @@
+package io.jbock.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe, memoizing function that caches the results of a loader function.
+ * Rights and Lefts are cached separately, each with its own
+ * {@link Policy}, so failures can be cached for a shorter time
+ * and in smaller numbers than successful results.
+ * When a cache is full, the least recently used entry is evicted.
+ *
+ * <p>A cache with room for at least 64 entries per
+ * available processor is split into up to 16 stripes by key hash.
+ * Each stripe is an LRU map with its own lock and an equal share of the size limit.
+ * A hit locks one stripe to record the access, so concurrent hits on different keys
+ * rarely contend, but the eviction order is only approximately LRU across the whole cache.
+ *
+ * <p>Loading is single-flight: if several threads miss the same key
+ * at the same time, the loader is invoked only once,
+ * and the other threads wait for its result.
+ * If the loader throws an exception, nothing is cached,
+ * and the exception is rethrown to all waiting threads.
+ * The loader must not invoke this cache for the key that it is loading:
+ * this throws an {@link IllegalStateException}.
+ * As with {@link ConcurrentHashMap#computeIfAbsent computeIfAbsent},
+ * loaders on different threads that wait for each other's keys deadlock.
+ *
+ * @see Eithers#memoize(Function, Policy, Policy)
+ * @param <K> the type of the keys
+ * @param <L> the LHS type
+ * @param <R> the RHS type
+ */
+public final class EitherCache<K, L, R> implements Function<K, Either<L, R>> {
+
+    /**
+     * The size limit and the time-to-live of the cached Lefts or Rights.
+     * Instances are immutable.
+     */
+    public static final class Policy {
+
+        private static final Policy DISABLED = new Policy(0, Long.MAX_VALUE);
+
+        private final int maxSize;
+        private final long ttlNanos;
+
+        private Policy(int maxSize, long ttlNanos) {
+            this.maxSize = maxSize;
+            this.ttlNanos = ttlNanos;
+        }
+
+        /**
+         * Returns a policy where entries do not expire.
+         *
+         * @param maxSize the maximum number of entries, must not be negative
+         * @return a policy
+         * @throws IllegalArgumentException if {@code maxSize} is negative
+         */
+        public static Policy of(int maxSize) {
+            return new Policy(checkMaxSize(maxSize), Long.MAX_VALUE);
+        }
+
+        /**
+         * Returns a policy where entries expire after the given time,
+         * counted from the moment they were loaded.
+         *
+         * @param maxSize the maximum number of entries, must not be negative
+         * @param ttl the time-to-live of the entries, must be positive
+         * @return a policy
+         * @throws IllegalArgumentException if {@code maxSize} is negative,
+         *         or if {@code ttl} is not positive
+         */
+        public static Policy of(int maxSize, Duration ttl) {
+            if (ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("ttl must be positive: " + ttl);
+            }
+            long ttlNanos = ttl.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0
+                    ? Long.MAX_VALUE
+                    : ttl.toNanos();
+            return new Policy(checkMaxSize(maxSize), ttlNanos);
+        }
+
+        /**
+         * Returns a policy that caches nothing.
+         * Loading is still single-flight.
+         *
+         * @return a policy that caches nothing
+         */
+        public static Policy disabled() {
+            return DISABLED;
+        }
+
+        private static int checkMaxSize(int maxSize) {
+            if (maxSize < 0) {
+                throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+            }
+            return maxSize;
+        }
+
+        @Override
+        public String toString() {
+            return "Policy[maxSize=" + maxSize + ", ttl=" + (ttlNanos == Long.MAX_VALUE ? "none" : Duration.ofNanos(ttlNanos)) + "]";
+        }
+    }
+
+    /**
+     * A snapshot of the statistics of a cache.
+     */
+    public static final class Stats {
+
+        private final long rightHits;
+        private final long leftHits;
+        private final long misses;
+        private final long loads;
+        private final long evictions;
+
+        private Stats(long rightHits, long leftHits, long misses, long loads, long evictions) {
+            this.rightHits = rightHits;
+            this.leftHits = leftHits;
+            this.misses = misses;
+            this.loads = loads;
+            this.evictions = evictions;
+        }
+
+        /**
+         * Returns the number of lookups that returned a cached result.
+         *
+         * @return the number of hits
+         */
+        public long hits() {
+            return rightHits + leftHits;
+        }
+
+        /**
+         * Returns the number of lookups that returned a cached Right.
+         *
+         * @return the number of Right hits
+         */
+        public long rightHits() {
+            return rightHits;
+        }
+
+        /**
+         * Returns the number of lookups that returned a cached Left.
+         *
+         * @return the number of Left hits
+         */
+        public long leftHits() {
+            return leftHits;
+        }
+
+        /**
+         * Returns the number of lookups that did not find a cached result.
+         * This includes lookups that waited for a concurrent load of the same key.
+         *
+         * @return the number of misses
+         */
+        public long misses() {
+            return misses;
+        }
+
+        /**
+         * Returns the number of invocations of the loader function.
+         *
+         * @return the number of loads
+         */
+        public long loads() {
+            return loads;
+        }
+
+        /**
+         * Returns the number of entries that were evicted
+         * because a cache was full.
+         * Expired entries are not counted.
+         *
+         * @return the number of evictions
+         */
+        public long evictions() {
+            return evictions;
+        }
+
+        /**
+         * Returns the ratio of hits to lookups, or {@code 1.0} if there were no lookups.
+         *
+         * @return the hit rate
+         */
+        public double hitRate() {
+            long lookups = hits() + misses;
+            return lookups == 0 ? 1.0 : (double) hits() / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats[rightHits=" + rightHits
+                    + ", leftHits=" + leftHits
+                    + ", misses=" + misses
+                    + ", loads=" + loads
+                    + ", evictions=" + evictions
+                    + "]";
+        }
+    }
+
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_STRIPE_SIZE = 64;
+
+    private final Function<? super K, ? extends Either<? extends L, ? extends R>> loader;
+    private final Store<K, L, R> rights;
+    private final Store<K, L, R> lefts;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<K, Load<L, R>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder rightHits = new LongAdder();
+    private final LongAdder leftHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private EitherCache(
+            Function<? super K, ? extends Either<? extends L, ? extends R>> loader,
+            Policy rightPolicy,
+            Policy leftPolicy,
+            LongSupplier ticker) {
+        this.loader = loader;
+        this.rights = new Store<>(rightPolicy, evictions);
+        this.lefts = new Store<>(leftPolicy, evictions);
+        this.ticker = ticker;
+    }
+
+    static <K, L, R> EitherCache<K, L, R> create(
+            Function<? super K, ? extends Either<? extends L, ? extends R>> loader,
+            Policy rightPolicy,
+            Policy leftPolicy,
+            LongSupplier ticker) {
+        return new EitherCache<>(requireNonNull(loader), requireNonNull(rightPolicy), requireNonNull(leftPolicy), requireNonNull(ticker));
+    }
+
+    /**
+     * Returns the cached result for the given key, if present and not expired.
+     * Otherwise invokes the loader, caches its result according to the
+     * policy for Lefts or Rights, and returns it.
+     *
+     * @param key a key
+     * @return the result of the loader for this key
+     * @throws IllegalStateException if the loader for this key
+     *         invokes this method with the same key
+     */
+    @Override
+    public Either<L, R> apply(K key) {
+        requireNonNull(key);
+        Either<L, R> cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+        misses.increment();
+        Load<L, R> future = new Load<>();
+        Load<L, R> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            if (inFlight.thread == Thread.currentThread()) {
+                // waiting for our own load would never return
+                throw new IllegalStateException("Recursive load of key: " + key);
+            }
+            return await(inFlight);
+        }
+        try {
+            // a concurrent load may have finished between lookup and putIfAbsent
+            Either<L, R> result = peek(key);
+            if (result == null) {
+                loads.increment();
+                result = narrow(requireNonNull(loader.apply(key)));
+                (result.isLeft() ? lefts : rights).put(key, result, ticker.getAsLong());
+            }
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * Removes the cached result for the given key, if any.
+     * A load that is in progress is not affected.
+     *
+     * @param key a key
+     */
+    public void invalidate(K key) {
+        rights.remove(key);
+        lefts.remove(key);
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        rights.clear();
+        lefts.clear();
+    }
+
+    /**
+     * Returns the number of cached results, including expired results
+     * that have not been removed yet.
+     *
+     * @return the number of cached results
+     */
+    public int size() {
+        return rights.size() + lefts.size();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return the statistics
+     */
+    public Stats stats() {
+        return new Stats(rightHits.sum(), leftHits.sum(), misses.sum(), loads.sum(), evictions.sum());
+    }
+
+    private Either<L, R> lookup(K key) {
+        long now = ticker.getAsLong();
+        Either<L, R> result = rights.get(key, now);
+        if (result != null) {
+            rightHits.increment();
+            return result;
+        }
+        result = lefts.get(key, now);
+        if (result != null) {
+            leftHits.increment();
+        }
+        return result;
+    }
+
+    private Either<L, R> peek(K key) {
+        long now = ticker.getAsLong();
+        Either<L, R> result = rights.get(key, now);
+        return result != null ? result : lefts.get(key, now);
+    }
+
+    private static <L, R> Either<L, R> await(CompletableFuture<Either<L, R>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static <L, R> Either<L, R> narrow(Either<? extends L, ? extends R> either) {
+        @SuppressWarnings("unchecked")
+        Either<L, R> result = (Either<L, R>) either;
+        return result;
+    }
+
+    // An in-flight load, and the thread that runs the loader.
+    private static final class Load<L, R> extends CompletableFuture<Either<L, R>> {
+        final Thread thread = Thread.currentThread();
+    }
+
+    private static final class Cached<L, R> {
+        final Either<L, R> value;
+        final long loadedAt;
+
+        Cached(Either<L, R> value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    // The Lefts or the Rights, striped by key hash.
+    private static final class Store<K, L, R> {
+
+        private final Segment<K, L, R>[] segments;
+
+        Store(Policy policy, LongAdder evictions) {
+            int n = stripes(policy.maxSize);
+            @SuppressWarnings("unchecked")
+            Segment<K, L, R>[] segments = (Segment<K, L, R>[]) new Segment<?, ?, ?>[n];
+            for (int i = 0; i < n; i++) {
+                // the first stripes take the remainder, so the sizes add up to maxSize
+                int maxSize = policy.maxSize / n + (i < policy.maxSize % n ? 1 : 0);
+                segments[i] = new Segment<>(policy.ttlNanos, maxSize, evictions);
+            }
+            this.segments = segments;
+        }
+
+        private static int stripes(int maxSize) {
+            int n = Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors());
+            return Math.max(1, Integer.highestOneBit(Math.min(n, maxSize / MIN_STRIPE_SIZE)));
+        }
+
+        private Segment<K, L, R> segment(K key) {
+            int h = key.hashCode();
+            return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+        }
+
+        Either<L, R> get(K key, long now) {
+            return segment(key).get(key, now);
+        }
+
+        void put(K key, Either<L, R> value, long now) {
+            segment(key).put(key, value, now);
+        }
+
+        void remove(K key) {
+            segment(key).remove(key);
+        }
+
+        void clear() {
+            for (Segment<K, L, R> segment : segments) {
+                segment.clear();
+            }
+        }
+
+        int size() {
+            int size = 0;
+            for (Segment<K, L, R> segment : segments) {
+                size += segment.size();
+            }
+            return size;
+        }
+    }
+
+    // An LRU map guarded by its own lock.
+    private static final class Segment<K, L, R> {
+
+        private final long ttlNanos;
+        private final int maxSize;
+        private final LinkedHashMap<K, Cached<L, R>> map;
+
+        Segment(long ttlNanos, int maxSize, LongAdder evictions) {
+            this.ttlNanos = ttlNanos;
+            this.maxSize = maxSize;
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Cached<L, R>> eldest) {
+                    if (size() > maxSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized Either<L, R> get(K key, long now) {
+            if (maxSize == 0) {
+                return null;
+            }
+            Cached<L, R> entry = map.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now - entry.loadedAt >= ttlNanos) {
+                map.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        synchronized void put(K key, Either<L, R> value, long now) {
+            if (maxSize == 0) {
+                return;
+            }
+            map.put(key, new Cached<>(value, now));
+        }
+
+        synchronized void remove(K key) {
+            map.remove(key);
+        }
+
+        synchronized void clear() {
+            map.clear();
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+    }
+}
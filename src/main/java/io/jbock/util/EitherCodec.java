@@ -0,0 +1,288 @@
+package io.jbock.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Binary encoding of {@link Either} values.
+ *
+ * <p>A single {@code Either} is written as a one-byte tag, {@code 0} for Left
+ * or {@code 1} for Right, followed by the value in the format of the
+ * corresponding {@link ValueCodec}.
+ *
+ * <p>A list of {@code Either} is written as the number of elements
+ * as a four-byte int, followed by the tags as a bitset in {@code ceil(n / 64)}
+ * longs, where a set bit means Left, followed by the values.
+ *
+ * <p>Instances of this class are immutable, if the value codecs are.
+ *
+ * @param <L> the LHS type
+ * @param <R> the RHS type
+ */
+public final class EitherCodec<L, R> implements ValueCodec<Either<L, R>> {
+
+    private static final byte TAG_LEFT = 0;
+    private static final byte TAG_RIGHT = 1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ValueCodec<L> leftCodec;
+    private final ValueCodec<R> rightCodec;
+
+    private EitherCodec(ValueCodec<L> leftCodec, ValueCodec<R> rightCodec) {
+        this.leftCodec = leftCodec;
+        this.rightCodec = rightCodec;
+    }
+
+    /**
+     * Creates a codec from the codecs of the LHS and RHS values.
+     *
+     * @param leftCodec the codec for the LHS values
+     * @param rightCodec the codec for the RHS values
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     * @return a codec for {@code Either}
+     */
+    public static <L, R> EitherCodec<L, R> of(ValueCodec<L> leftCodec, ValueCodec<R> rightCodec) {
+        return new EitherCodec<>(requireNonNull(leftCodec), requireNonNull(rightCodec));
+    }
+
+    @Override
+    public int encodedSize(Either<L, R> value) {
+        return 1 + valueSize(value);
+    }
+
+    @Override
+    public void write(Either<L, R> value, ByteBuffer buffer) {
+        if (value.isLeft()) {
+            buffer.put(TAG_LEFT);
+            leftCodec.write(value.leftOrNull(), buffer);
+        } else {
+            buffer.put(TAG_RIGHT);
+            rightCodec.write(value.rightOrNull(), buffer);
+        }
+    }
+
+    @Override
+    public Either<L, R> read(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case TAG_LEFT:
+                return Either.left(leftCodec.read(buffer));
+            case TAG_RIGHT:
+                return Either.right(rightCodec.read(buffer));
+            default:
+                throw new IllegalArgumentException("Invalid tag: " + tag);
+        }
+    }
+
+    @Override
+    public void write(Either<L, R> value, DataOutput out) throws IOException {
+        if (value.isLeft()) {
+            out.writeByte(TAG_LEFT);
+            leftCodec.write(value.leftOrNull(), out);
+        } else {
+            out.writeByte(TAG_RIGHT);
+            rightCodec.write(value.rightOrNull(), out);
+        }
+    }
+
+    @Override
+    public Either<L, R> read(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_LEFT:
+                return Either.left(leftCodec.read(in));
+            case TAG_RIGHT:
+                return Either.right(rightCodec.read(in));
+            default:
+                throw new IOException("Invalid tag: " + tag);
+        }
+    }
+
+    /**
+     * Returns the number of bytes that {@code writeAll} will produce for the given list.
+     *
+     * @param values a list of {@code Either}
+     * @return the encoded size in bytes
+     */
+    public int encodedSizeAll(List<? extends Either<L, R>> values) {
+        int result = Integer.BYTES + Long.BYTES * words(values.size());
+        for (Either<L, R> value : values) {
+            result += valueSize(value);
+        }
+        return result;
+    }
+
+    /**
+     * Writes the given list into the buffer, using the bulk format.
+     *
+     * @param values a list of {@code Either}
+     * @param buffer the target buffer
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough space
+     */
+    public void writeAll(List<? extends Either<L, R>> values, ByteBuffer buffer) {
+        long[] tags = tags(values);
+        buffer.putInt(values.size());
+        for (long word : tags) {
+            buffer.putLong(word);
+        }
+        for (Either<L, R> value : values) {
+            if (value.isLeft()) {
+                leftCodec.write(value.leftOrNull(), buffer);
+            } else {
+                rightCodec.write(value.rightOrNull(), buffer);
+            }
+        }
+    }
+
+    /**
+     * Reads a list from the buffer that was written by {@link #writeAll(List, ByteBuffer) writeAll}.
+     *
+     * @param buffer the source buffer
+     * @return an unmodifiable list
+     * @throws java.nio.BufferUnderflowException if the buffer does not contain enough bytes
+     */
+    public List<Either<L, R>> readAll(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if (size < 0) {
+            throw new IllegalArgumentException("Invalid size: " + size);
+        }
+        // check before allocating, so that a corrupt size fails fast
+        if (buffer.remaining() < (long) Long.BYTES * words(size)) {
+            throw new BufferUnderflowException();
+        }
+        long[] tags = new long[words(size)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = buffer.getLong();
+        }
+        @SuppressWarnings("unchecked")
+        Either<L, R>[] result = (Either<L, R>[]) new Either<?, ?>[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = isLeft(tags, i)
+                    ? Either.left(leftCodec.read(buffer))
+                    : Either.right(rightCodec.read(buffer));
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * Writes the given list to the output, using the bulk format.
+     *
+     * @param values a list of {@code Either}
+     * @param out the target
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeAll(List<? extends Either<L, R>> values, DataOutput out) throws IOException {
+        long[] tags = tags(values);
+        out.writeInt(values.size());
+        for (long word : tags) {
+            out.writeLong(word);
+        }
+        for (Either<L, R> value : values) {
+            if (value.isLeft()) {
+                leftCodec.write(value.leftOrNull(), out);
+            } else {
+                rightCodec.write(value.rightOrNull(), out);
+            }
+        }
+    }
+
+    /**
+     * Reads a list from the input that was written by {@link #writeAll(List, DataOutput) writeAll}.
+     *
+     * @param in the source
+     * @return an unmodifiable list
+     * @throws IOException if an I/O error occurs
+     */
+    public List<Either<L, R>> readAll(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid size: " + size);
+        }
+        // the size is not trusted: the arrays grow while the input is read
+        int words = words(size);
+        long[] tags = new long[Math.min(words, INITIAL_CAPACITY)];
+        for (int i = 0; i < words; i++) {
+            if (i == tags.length) {
+                tags = Arrays.copyOf(tags, grow(tags.length, words));
+            }
+            tags[i] = in.readLong();
+        }
+        @SuppressWarnings("unchecked")
+        Either<L, R>[] result = (Either<L, R>[]) new Either<?, ?>[Math.min(size, INITIAL_CAPACITY)];
+        for (int i = 0; i < size; i++) {
+            if (i == result.length) {
+                result = Arrays.copyOf(result, grow(result.length, size));
+            }
+            result[i] = isLeft(tags, i)
+                    ? Either.left(leftCodec.read(in))
+                    : Either.right(rightCodec.read(in));
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * Encodes the given value into a new heap buffer of the exact size.
+     * The returned buffer is flipped, ready to be read.
+     *
+     * @param value an {@code Either}
+     * @return a new buffer
+     */
+    public ByteBuffer encode(Either<L, R> value) {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedSize(value));
+        write(value, buffer);
+        return buffer.flip();
+    }
+
+    /**
+     * Encodes the given list into a new heap buffer of the exact size,
+     * using the bulk format.
+     * The returned buffer is flipped, ready to be read.
+     *
+     * @param values a list of {@code Either}
+     * @return a new buffer
+     */
+    public ByteBuffer encodeAll(List<? extends Either<L, R>> values) {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedSizeAll(values));
+        writeAll(values, buffer);
+        return buffer.flip();
+    }
+
+    private int valueSize(Either<L, R> value) {
+        return value.isLeft()
+                ? leftCodec.encodedSize(value.leftOrNull())
+                : rightCodec.encodedSize(value.rightOrNull());
+    }
+
+    private static long[] tags(List<? extends Either<?, ?>> values) {
+        long[] tags = new long[words(values.size())];
+        int i = 0;
+        for (Either<?, ?> value : values) {
+            if (value.isLeft()) {
+                tags[i >>> 6] |= 1L << i;
+            }
+            i++;
+        }
+        return tags;
+    }
+
+    private static boolean isLeft(long[] tags, int i) {
+        return (tags[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private static int grow(int length, int max) {
+        return (int) Math.min(max, 2L * length);
+    }
+
+    private static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+}
@@ -0,0 +1,353 @@
+package io.jbock.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Flow.Processor} that splits a flow of {@link Either} values.
+ * The RHS values are published to the subscriber of this processor,
+ * and the LHS values are published to a separate subscriber,
+ * which is passed to the factory method.
+ *
+ * <p>Demand is requested from the upstream publisher in batches.
+ * At most {@code batchSize} elements are requested or buffered at any time.
+ * Elements are delivered in upstream order, so if the next element
+ * belongs to a subscriber that has no outstanding demand,
+ * delivery pauses until that subscriber requests more.
+ *
+ * <p>All signals to both subscribers are delivered serially,
+ * possibly from different threads.
+ * This processor accepts a single subscriber.
+ *
+ * @param <L> the LHS type
+ * @param <R> the RHS type
+ */
+public final class EitherProcessor<L, R> implements Flow.Processor<Either<? extends L, ? extends R>, R> {
+
+    /**
+     * The default batch size, as used by {@link #create(Flow.Subscriber)}.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * Determines what happens after the first Left.
+     */
+    public enum Mode {
+
+        /**
+         * All LHS and RHS values are delivered.
+         */
+        PASS,
+
+        /**
+         * The first LHS value is delivered, then the upstream subscription
+         * is cancelled and both subscribers are completed.
+         * This is the streaming counterpart of {@link Eithers#firstFailure()}.
+         */
+        FIRST_FAILURE,
+
+        /**
+         * After the first LHS value, the subscriber of this processor
+         * is completed and all further RHS values are dropped.
+         * All LHS values are delivered.
+         * This is the streaming counterpart of {@link Eithers#allFailures()}.
+         */
+        ALL_FAILURES,
+    }
+
+    private final Mode mode;
+    private final int batchSize;
+    private final int limit;
+
+    private final Side<R> rights = new Side<>();
+    private final Side<L> lefts = new Side<>();
+
+    private final Queue<Either<? extends L, ? extends R>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private volatile Flow.Subscription upstream;
+    private volatile boolean upstreamCancelled;
+    private volatile boolean done;
+    private volatile Throwable error;
+
+    // only accessed in drain
+    private boolean finished;
+    private int consumed;
+
+    private EitherProcessor(Flow.Subscriber<? super L> leftSubscriber, Mode mode, int batchSize) {
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.limit = batchSize - (batchSize >> 2);
+        lefts.subscribed.set(true);
+        lefts.subscriber = leftSubscriber;
+    }
+
+    /**
+     * Creates a new processor in {@link Mode#PASS PASS} mode
+     * with the {@link #DEFAULT_BATCH_SIZE default batch size}.
+     *
+     * @param leftSubscriber the subscriber that receives the LHS values
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     * @return a new processor
+     */
+    public static <L, R> EitherProcessor<L, R> create(Flow.Subscriber<? super L> leftSubscriber) {
+        return create(leftSubscriber, Mode.PASS, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new processor.
+     *
+     * @param leftSubscriber the subscriber that receives the LHS values
+     * @param mode determines what happens after the first Left
+     * @param batchSize the number of elements that is requested
+     *                  from upstream at once, must be positive
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     * @return a new processor
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     */
+    public static <L, R> EitherProcessor<L, R> create(
+            Flow.Subscriber<? super L> leftSubscriber,
+            Mode mode,
+            int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        return new EitherProcessor<>(requireNonNull(leftSubscriber), requireNonNull(mode), batchSize);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+        requireNonNull(subscriber);
+        if (!rights.subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(NoopSubscription.INSTANCE);
+            subscriber.onError(new IllegalStateException("This processor accepts a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(rights);
+        rights.subscriber = subscriber;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        requireNonNull(subscription);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscription.cancel();
+            return;
+        }
+        lefts.subscriber.onSubscribe(lefts);
+        upstream = subscription;
+        if (upstreamCancelled) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(batchSize);
+        drain();
+    }
+
+    @Override
+    public void onNext(Either<? extends L, ? extends R> item) {
+        requireNonNull(item);
+        if (done || upstreamCancelled) {
+            return;
+        }
+        queue.offer(item);
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        requireNonNull(throwable);
+        if (done) {
+            return;
+        }
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            rights.checkRequest();
+            lefts.checkRequest();
+            route();
+            if (rights.isClosed() && lefts.isClosed()) {
+                cancelUpstream();
+            }
+            if (finished || (done && queue.isEmpty())) {
+                Throwable e = finished ? null : error;
+                rights.terminate(e);
+                lefts.terminate(e);
+            }
+            rights.flush();
+            lefts.flush();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void route() {
+        while (!finished) {
+            Either<? extends L, ? extends R> item = queue.peek();
+            if (item == null) {
+                return;
+            }
+            boolean isLeft = item.isLeft();
+            Side<?> side = isLeft ? lefts : rights;
+            if (!side.isClosed() && !side.isReady()) {
+                return;
+            }
+            queue.poll();
+            replenish();
+            if (side.isClosed()) {
+                continue;
+            }
+            if (!isLeft) {
+                rights.emit(item.rightOrNull());
+                continue;
+            }
+            lefts.emit(item.leftOrNull());
+            if (mode == Mode.FIRST_FAILURE) {
+                cancelUpstream();
+                finished = true;
+            } else if (mode == Mode.ALL_FAILURES) {
+                rights.terminate(null);
+            }
+        }
+    }
+
+    private void replenish() {
+        if (++consumed < limit) {
+            return;
+        }
+        Flow.Subscription s = upstream;
+        if (!upstreamCancelled && !done) {
+            s.request(consumed);
+        }
+        consumed = 0;
+    }
+
+    private void cancelUpstream() {
+        if (upstreamCancelled) {
+            return;
+        }
+        upstreamCancelled = true;
+        queue.clear();
+        Flow.Subscription s = upstream;
+        if (s != null) {
+            s.cancel();
+        }
+    }
+
+    private final class Side<T> implements Flow.Subscription {
+
+        final AtomicBoolean subscribed = new AtomicBoolean();
+        final AtomicLong requested = new AtomicLong();
+
+        volatile Flow.Subscriber<? super T> subscriber;
+        volatile boolean cancelled;
+        volatile long badRequest;
+
+        // only accessed in drain
+        boolean terminated;
+        boolean delivered;
+        Throwable terminalError;
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                badRequest = n;
+            } else {
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        boolean isClosed() {
+            return terminated || cancelled;
+        }
+
+        boolean isReady() {
+            return subscriber != null && requested.get() != 0;
+        }
+
+        void emit(Object value) {
+            @SuppressWarnings("unchecked")
+            T t = (T) value;
+            if (requested.get() != Long.MAX_VALUE) {
+                requested.decrementAndGet();
+            }
+            subscriber.onNext(t);
+        }
+
+        void checkRequest() {
+            long n = badRequest;
+            if (n != 0 && !terminated) {
+                terminate(new IllegalArgumentException("non-positive request: " + n));
+            }
+        }
+
+        void terminate(Throwable e) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            terminalError = e;
+        }
+
+        void flush() {
+            if (!terminated || delivered || cancelled) {
+                return;
+            }
+            Flow.Subscriber<? super T> s = subscriber;
+            if (s == null) {
+                return;
+            }
+            delivered = true;
+            if (terminalError != null) {
+                s.onError(terminalError);
+            } else {
+                s.onComplete();
+            }
+        }
+    }
+
+    private enum NoopSubscription implements Flow.Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package io.jbock.util;
+
+import java.util.ArrayDeque;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A description of a computation that produces an {@link Either}.
+ * Unlike {@code Either}, which evaluates each step immediately,
+ * an {@code EitherProgram} only records the steps.
+ * They run when {@link #toEither()} is invoked.
+ *
+ * <p>Evaluation is iterative: {@code toEither()} uses a heap-allocated stack
+ * of pending steps instead of the call stack, so chains of
+ * {@link #flatMap(Function) flatMap} and {@link #flatMapLeft(Function) flatMapLeft}
+ * of arbitrary depth can be evaluated in constant stack space.
+ * This includes chains that are built recursively, via {@link #defer(Supplier) defer}.
+ *
+ * <p>Instances are immutable, and can be evaluated more than once.
+ *
+ * @param <L> the LHS type
+ * @param <R> the RHS type
+ */
+public abstract class EitherProgram<L, R> {
+
+    private EitherProgram() {
+    }
+
+    /**
+     * Returns a program that produces the given {@code Either}.
+     *
+     * @param either an {@code Either}
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     * @return a program
+     */
+    public static <L, R> EitherProgram<L, R> of(Either<? extends L, ? extends R> either) {
+        return new Done<>(requireNonNull(either));
+    }
+
+    /**
+     * Returns a program that produces a Right containing the given value.
+     *
+     * @param value the RHS value
+     * @param <L> an arbitrary LHS type
+     * @param <R> the RHS type
+     * @return a program
+     */
+    public static <L, R> EitherProgram<L, R> right(R value) {
+        return new Done<>(Either.right(value));
+    }
+
+    /**
+     * Returns a program that produces a Left containing the given value.
+     *
+     * @param value the LHS value
+     * @param <L> the LHS type
+     * @param <R> an arbitrary RHS type
+     * @return a program
+     */
+    public static <L, R> EitherProgram<L, R> left(L value) {
+        return new Done<>(Either.left(value));
+    }
+
+    /**
+     * Returns a program that obtains another program from the {@code supplier}
+     * when it is evaluated, and continues with that program.
+     * This can be used to define programs recursively.
+     *
+     * @param supplier a supplier of a program
+     * @param <L> the LHS type
+     * @param <R> the RHS type
+     * @return a program
+     */
+    public static <L, R> EitherProgram<L, R> defer(
+            Supplier<? extends EitherProgram<? extends L, ? extends R>> supplier) {
+        return new Suspend<>(requireNonNull(supplier));
+    }
+
+    /**
+     * Returns a program that applies the {@code mapper} to the RHS value,
+     * if this program produces a Right.
+     *
+     * @param mapper a function to apply to the RHS value
+     * @param <R2> the new RHS type
+     * @return a program
+     */
+    public final <R2> EitherProgram<L, R2> map(Function<? super R, ? extends R2> mapper) {
+        requireNonNull(mapper);
+        return new Bind<>(this, false, r -> right(mapper.apply(cast(r))));
+    }
+
+    /**
+     * Returns a program that continues with the program returned by the {@code mapper},
+     * if this program produces a Right.
+     *
+     * @param mapper a function that returns the next program
+     * @param <R2> the new RHS type
+     * @return a program
+     */
+    public final <R2> EitherProgram<L, R2> flatMap(
+            Function<? super R, ? extends EitherProgram<? extends L, ? extends R2>> mapper) {
+        requireNonNull(mapper);
+        return new Bind<>(this, false, r -> mapper.apply(cast(r)));
+    }
+
+    /**
+     * Returns a program that continues with the {@code Either} returned by the {@code mapper},
+     * if this program produces a Right.
+     *
+     * @param mapper a function that returns the next result
+     * @param <R2> the new RHS type
+     * @return a program
+     */
+    public final <R2> EitherProgram<L, R2> flatMapEither(
+            Function<? super R, ? extends Either<? extends L, ? extends R2>> mapper) {
+        requireNonNull(mapper);
+        return new Bind<>(this, false, r -> new Done<>(mapper.apply(cast(r))));
+    }
+
+    /**
+     * Returns a program that applies the {@code mapper} to the LHS value,
+     * if this program produces a Left.
+     *
+     * @param mapper a function to apply to the LHS value
+     * @param <L2> the new LHS type
+     * @return a program
+     */
+    public final <L2> EitherProgram<L2, R> mapLeft(Function<? super L, ? extends L2> mapper) {
+        requireNonNull(mapper);
+        return new Bind<>(this, true, l -> left(mapper.apply(cast(l))));
+    }
+
+    /**
+     * Returns a program that continues with the program returned by the {@code mapper},
+     * if this program produces a Left.
+     *
+     * @param mapper a function that returns the next program
+     * @param <L2> the new LHS type
+     * @return a program
+     */
+    public final <L2> EitherProgram<L2, R> flatMapLeft(
+            Function<? super L, ? extends EitherProgram<? extends L2, ? extends R>> mapper) {
+        requireNonNull(mapper);
+        return new Bind<>(this, true, l -> mapper.apply(cast(l)));
+    }
+
+    /**
+     * Evaluates this program.
+     *
+     * @return the result of this program
+     */
+    public final Either<L, R> toEither() {
+        ArrayDeque<Bind<?, ?>> pending = new ArrayDeque<>();
+        EitherProgram<?, ?> current = this;
+        while (true) {
+            if (current instanceof Bind) {
+                Bind<?, ?> bind = (Bind<?, ?>) current;
+                pending.push(bind);
+                current = bind.source;
+                continue;
+            }
+            if (current instanceof Suspend) {
+                current = requireNonNull(((Suspend<?, ?>) current).supplier.get());
+                continue;
+            }
+            Either<?, ?> value = ((Done<?, ?>) current).value;
+            boolean isLeft = value.isLeft();
+            Bind<?, ?> next = pending.poll();
+            while (next != null && next.onLeft != isLeft) {
+                next = pending.poll();
+            }
+            if (next == null) {
+                return cast(value);
+            }
+            current = requireNonNull(next.mapper.apply(isLeft ? value.leftOrNull() : value.rightOrNull()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object o) {
+        return (T) o;
+    }
+
+    private static final class Done<L, R> extends EitherProgram<L, R> {
+        final Either<? extends L, ? extends R> value;
+
+        Done(Either<? extends L, ? extends R> value) {
+            this.value = value;
+        }
+    }
+
+    private static final class Suspend<L, R> extends EitherProgram<L, R> {
+        final Supplier<? extends EitherProgram<? extends L, ? extends R>> supplier;
+
+        Suspend(Supplier<? extends EitherProgram<? extends L, ? extends R>> supplier) {
+            this.supplier = supplier;
+        }
+    }
+
+    // A pending step, which applies either to RHS values or to LHS values.
+    private static final class Bind<L, R> extends EitherProgram<L, R> {
+        final EitherProgram<?, ?> source;
+        final boolean onLeft;
+        final Function<Object, ? extends EitherProgram<?, ?>> mapper;
+
+        Bind(EitherProgram<?, ?> source, boolean onLeft, Function<Object, ? extends EitherProgram<?, ?>> mapper) {
+            this.source = source;
+            this.onLeft = onLeft;
+            this.mapper = mapper;
+        }
+    }
+}
@@ -1,15 +1,28 @@
 package io.jbock.util;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * This class contains static utility methods related to
@@ -18,6 +31,9 @@ import java.util.stream.Collectors;
 public final class Eithers {
 
     private static final Set<Collector.Characteristics> CH_NOID = Set.of();
+    private static final Set<Collector.Characteristics> CH_CONCURRENT_NOID = Set.of(
+            Collector.Characteristics.CONCURRENT,
+            Collector.Characteristics.UNORDERED);
 
     /**
      * Returns a {@code Collector} that accumulates the input elements into
@@ -40,38 +56,900 @@ public final class Eithers {
         BiConsumer<FirstFailureAcc<L, R>, Either<? extends L, ? extends R>> accumulator = (acc, either) ->
                 either.ifLeftOrElse(acc::addLeft, acc::addRight);
 
-        BinaryOperator<FirstFailureAcc<L, R>> combiner = (acc, other) ->
-                (FirstFailureAcc<L, R>) acc.combine(other);
+        BinaryOperator<FirstFailureAcc<L, R>> combiner = (acc, other) ->
+                (FirstFailureAcc<L, R>) acc.combine(other);
+
+        return new CollectorImpl<>(FirstFailureAcc::new, accumulator, combiner, FirstFailureAcc::finish);
+    }
+
+    /**
+     * Returns a {@code Collector} that accumulates the input elements into
+     * a Right containing all values in the original order,
+     * but only if there are no Left instances in the stream.
+     * If the stream does contain a Left instance, it discards the Right instances and
+     * accumulates a Left containing only the LHS values,
+     * in encounter order.
+     *
+     * @param <L> the type of the LHS values in the stream
+     * @param <R> the type of the RHS values in the stream
+     * @return a {@code Collector} which collects all the input elements into
+     *         a Right containing all RHS values in the stream,
+     *         or, if an LHS value exists, a Left containing a nonempty list
+     *         of all LHS values in the stream
+     */
+    public static <L, R>
+    Collector<Either<? extends L, ? extends R>, ?, Either<List<L>, List<R>>>
+    allFailures() {
+
+        BiConsumer<AllFailuresAcc<L, R>, Either<? extends L, ? extends R>> accumulator = (acc, either) ->
+                either.ifLeftOrElse(acc::addLeft, acc::addRight);
+
+        BinaryOperator<AllFailuresAcc<L, R>> combiner = (acc, other) ->
+                (AllFailuresAcc<L, R>) acc.combine(other);
+
+        return new CollectorImpl<>(AllFailuresAcc::new, accumulator, combiner, AllFailuresAcc::finish);
+    }
+
+    /**
+     * Returns a {@code Collector} with the same semantics as {@link #allFailures()},
+     * except that it keeps at most {@code maxFailures} LHS values.
+     * Further LHS values are not kept, but counted.
+     *
+     * @param maxFailures the maximum number of LHS values to keep
+     * @param <L> the type of the LHS values in the stream
+     * @param <R> the type of the RHS values in the stream
+     * @return a {@code Collector} which collects all the input elements into
+     *         a Right containing all RHS values in the stream,
+     *         or, if an LHS value exists, a Left containing a nonempty list
+     *         of the first {@code maxFailures} LHS values in the stream
+     * @throws IllegalArgumentException if {@code maxFailures} is not positive
+     */
+    public static <L, R>
+    Collector<Either<? extends L, ? extends R>, ?, Either<TruncatedList<L>, List<R>>>
+    allFailures(int maxFailures) {
+        checkMaxFailures(maxFailures);
+
+        BiConsumer<BoundedFailuresAcc<L, R>, Either<? extends L, ? extends R>> accumulator = (acc, either) ->
+                either.ifLeftOrElse(acc::addLeft, acc::addRight);
+
+        BinaryOperator<BoundedFailuresAcc<L, R>> combiner = (acc, other) ->
+                (BoundedFailuresAcc<L, R>) acc.combine(other);
+
+        return new CollectorImpl<>(() -> new BoundedFailuresAcc<>(maxFailures), accumulator, combiner, BoundedFailuresAcc::finish);
+    }
+
+    /**
+     * Returns a {@code Collector} with the same semantics as {@link #allFailures()},
+     * except that the LHS values are written to temporary files
+     * when there are more than {@code inMemoryLimit} of them.
+     * The values are written and read with the given {@code codec},
+     * through memory-mapped file segments.
+     * The temporary files are created in the default temporary-file directory.
+     *
+     * <p>The limit also holds for a parallel stream:
+     * when partial results are combined, in-memory values are written
+     * to disk as needed, so at most {@code inMemoryLimit} values
+     * are kept in memory in the final result.
+     * The caller must {@link SpilledLefts#close() close} the resulting
+     * {@code SpilledLefts} to delete the temporary files.
+     * If writing a value fails, the temporary files of the failing container
+     * are closed before the exception is rethrown.
+     * If the stream fails for another reason, the collector is not notified,
+     * and temporary files that were already created are only released
+     * when they are garbage-collected.
+     *
+     * @param codec the codec for the LHS values
+     * @param inMemoryLimit the number of LHS values that are kept in memory
+     * @param <L> the type of the LHS values in the stream
+     * @param <R> the type of the RHS values in the stream
+     * @return a {@code Collector} which collects all the input elements into
+     *         a Right containing all RHS values in the stream,
+     *         or, if an LHS value exists, a Left containing all
+     *         LHS values in the stream
+     * @throws IllegalArgumentException if {@code inMemoryLimit} is negative
+     */
+    public static <L, R>
+    Collector<Either<? extends L, ? extends R>, ?, Either<SpilledLefts<L>, List<R>>>
+    allFailuresSpilling(ValueCodec<L> codec, int inMemoryLimit) {
+        return allFailuresSpilling(codec, inMemoryLimit, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Returns a {@code Collector} like {@link #allFailuresSpilling(ValueCodec, int)},
+     * which creates its temporary files in the given directory.
+     *
+     * @param codec the codec for the LHS values
+     * @param inMemoryLimit the number of LHS values that are kept in memory
+     * @param directory the directory for the temporary files
+     * @param <L> the type of the LHS values in the stream
+     * @param <R> the type of the RHS values in the stream
+     * @return a {@code Collector} which collects all the input elements into
+     *         a Right containing all RHS values in the stream,
+     *         or, if an LHS value exists, a Left containing all
+     *         LHS values in the stream
+     * @throws IllegalArgumentException if {@code inMemoryLimit} is negative
+     */
+    public static <L, R>
+    Collector<Either<? extends L, ? extends R>, ?, Either<SpilledLefts<L>, List<R>>>
+    allFailuresSpilling(ValueCodec<L> codec, int inMemoryLimit, Path directory) {
+        return allFailuresSpilling(codec, inMemoryLimit, directory, SpillFile.DEFAULT_SEGMENT_SIZE);
+    }
+
+    static <L, R>
+    Collector<Either<? extends L, ? extends R>, ?, Either<SpilledLefts<L>, List<R>>>
+    allFailuresSpilling(ValueCodec<L> codec, int inMemoryLimit, Path directory, int segmentSize) {
+        requireNonNull(codec);
+        requireNonNull(directory);
+        if (inMemoryLimit < 0) {
+            throw new IllegalArgumentException("inMemoryLimit must not be negative: " + inMemoryLimit);
+        }
+
+        BiConsumer<SpillingFailuresAcc<L, R>, Either<? extends L, ? extends R>> accumulator = (acc, either) ->
+                either.ifLeftOrElse(acc::addLeft, acc::addRight);
+
+        BinaryOperator<SpillingFailuresAcc<L, R>> combiner = (acc, other) ->
+                (SpillingFailuresAcc<L, R>) acc.combine(other);
+
+        return new CollectorImpl<>(
+                () -> new SpillingFailuresAcc<>(codec, inMemoryLimit, directory, segmentSize),
+                accumulator, combiner, SpillingFailuresAcc::finish);
+    }
+
+    /**
+     * Returns a {@code Collector} that accumulates the LHS values and the RHS values
+     * of the input elements into two separate lists, in encounter order.
+     * Unlike {@link #allFailures()}, the RHS values are kept
+     * when there is a Left in the stream.
+     *
+     * @param <L> the type of the LHS values in the stream
+     * @param <R> the type of the RHS values in the stream
+     * @return a {@code Collector} which collects all LHS values and all RHS values
+     *         in the stream
+     */
+    public static <L, R>
+    Collector<Either<? extends L, ? extends R>, ?, Partition<List<L>, List<R>>>
+    partition() {
+        return partitioning(Collectors.toList(), Collectors.toList());
+    }
+
+    /**
+     * Returns a {@code Collector} that passes the LHS values of the input elements
+     * to the {@code leftCollector}, and the RHS values to the {@code rightCollector}.
+     *
+     * @see #partition()
+     * @param leftCollector a collector for the LHS values
+     * @param rightCollector a collector for the RHS values
+     * @param <L> the type of the LHS values in the stream
+     * @param <R> the type of the RHS values in the stream
+     * @param <A> the result type of the {@code leftCollector}
+     * @param <B> the result type of the {@code rightCollector}
+     * @return a {@code Collector} which collects the LHS values and
+     *         the RHS values separately
+     */
+    public static <L, R, A, B>
+    Collector<Either<? extends L, ? extends R>, ?, Partition<A, B>>
+    partitioning(
+            Collector<? super L, ?, A> leftCollector,
+            Collector<? super R, ?, B> rightCollector) {
+        return partitioningImpl(leftCollector, rightCollector);
+    }
+
+    private static <L, R, AL, AR, A, B>
+    Collector<Either<? extends L, ? extends R>, ?, Partition<A, B>>
+    partitioningImpl(
+            Collector<? super L, AL, A> leftCollector,
+            Collector<? super R, AR, B> rightCollector) {
+
+        Supplier<AL> leftSupplier = leftCollector.supplier();
+        Supplier<AR> rightSupplier = rightCollector.supplier();
+        BiConsumer<AL, ? super L> leftAccumulator = leftCollector.accumulator();
+        BiConsumer<AR, ? super R> rightAccumulator = rightCollector.accumulator();
+        BinaryOperator<AL> leftCombiner = leftCollector.combiner();
+        BinaryOperator<AR> rightCombiner = rightCollector.combiner();
+        Function<AL, A> leftFinisher = leftCollector.finisher();
+        Function<AR, B> rightFinisher = rightCollector.finisher();
+
+        BiConsumer<PartitionAcc<AL, AR>, Either<? extends L, ? extends R>> accumulator = (acc, either) -> {
+            if (either.isLeft()) {
+                leftAccumulator.accept(acc.left, either.leftOrNull());
+            } else {
+                rightAccumulator.accept(acc.right, either.rightOrNull());
+            }
+        };
+
+        BinaryOperator<PartitionAcc<AL, AR>> combiner = (acc, other) -> {
+            acc.left = leftCombiner.apply(acc.left, other.left);
+            acc.right = rightCombiner.apply(acc.right, other.right);
+            return acc;
+        };
+
+        return new CollectorImpl<>(
+                () -> new PartitionAcc<>(leftSupplier.get(), rightSupplier.get()),
+                accumulator,
+                combiner,
+                acc -> new Partition<>(leftFinisher.apply(acc.left), rightFinisher.apply(acc.right)));
+    }
+
+    /**
+     * Returns a concurrent, unordered {@code Collector} with the same
+     * semantics as {@link #allFailures()}, except that the order of
+     * the values in the resulting list is unspecified.
+     * In a parallel stream, all threads accumulate into a single
+     * shared container, so there is no merge phase.
+     *
+     * @param <L> the type of the LHS values in the stream
+     * @param <R> the type of the RHS values in the stream
+     * @return a {@code Collector} which collects all the input elements into
+     *         a Right containing all RHS values in the stream,
+     *         or, if an LHS value exists, a Left containing a nonempty list
+     *         of all LHS values in the stream
+     */
+    public static <L, R>
+    Collector<Either<? extends L, ? extends R>, ?, Either<List<L>, List<R>>>
+    allFailuresUnordered() {
+
+        BiConsumer<ConcurrentAllFailuresAcc<L, R>, Either<? extends L, ? extends R>> accumulator = (acc, either) ->
+                either.ifLeftOrElse(acc::addLeft, acc::addRight);
+
+        BinaryOperator<ConcurrentAllFailuresAcc<L, R>> combiner = ConcurrentAllFailuresAcc::combine;
+
+        return new CollectorImpl<>(ConcurrentAllFailuresAcc::new, accumulator, combiner,
+                ConcurrentAllFailuresAcc::finish, CH_CONCURRENT_NOID);
+    }
+
+    /**
+     * Returns a {@code Collector} that accumulates the input elements into
+     * a Right containing an array of all RHS values in the original order,
+     * but only if there are no Left instances in the stream.
+     * If the stream does contain a Left instance, it discards the RHS values and
+     * accumulates a Left instance, which contains the first LHS value in the stream,
+     * in encounter order.
+     *
+     * @see #firstFailure()
+     * @param <L> the type of the LHS values in the stream
+     * @return a {@code Collector} which collects all the input elements into
+     *         a Right containing all RHS values in the stream, or,
+     *         if an LHS value exists, a Left containing the first LHS value
+     */
+    public static <L>
+    Collector<IntEither<? extends L>, ?, Either<L, int[]>>
+    firstFailureInt() {
+
+        BiConsumer<IntAcc<L>, IntEither<? extends L>> accumulator = (acc, either) ->
+                either.ifLeftOrElse(acc::addLeft, acc::addRight);
+
+        BinaryOperator<IntAcc<L>> combiner = (acc, other) ->
+                (IntAcc<L>) acc.combine(other);
+
+        return new CollectorImpl<>(() -> new IntAcc<>(false), accumulator, combiner, IntAcc::finishFirstFailure);
+    }
+
+    /**
+     * Returns a {@code Collector} that accumulates the input elements into
+     * a Right containing an array of all RHS values in the original order,
+     * but only if there are no Left instances in the stream.
+     * If the stream does contain a Left instance, it discards the RHS values and
+     * accumulates a Left containing only the LHS values,
+     * in encounter order.
+     *
+     * @see #allFailures()
+     * @param <L> the type of the LHS values in the stream
+     * @return a {@code Collector} which collects all the input elements into
+     *         a Right containing all RHS values in the stream,
+     *         or, if an LHS value exists, a Left containing a nonempty list
+     *         of all LHS values in the stream
+     */
+    public static <L>
+    Collector<IntEither<? extends L>, ?, Either<List<L>, int[]>>
+    allFailuresInt() {
+
+        BiConsumer<IntAcc<L>, IntEither<? extends L>> accumulator = (acc, either) ->
+                either.ifLeftOrElse(acc::addLeft, acc::addRight);
+
+        BinaryOperator<IntAcc<L>> combiner = (acc, other) ->
+                (IntAcc<L>) acc.combine(other);
+
+        return new CollectorImpl<>(() -> new IntAcc<>(true), accumulator, combiner, IntAcc::finishAllFailures);
+    }
+
+    /**
+     * Returns a {@code Collector} that accumulates the input elements into
+     * a Right containing an array of all RHS values in the original order,
+     * but only if there are no Left instances in the stream.
+     * If the stream does contain a Left instance, it discards the RHS values and
+     * accumulates a Left instance, which contains the first LHS value in the stream,
+     * in encounter order.
+     *
+     * @see #firstFailure()
+     * @param <L> the type of the LHS values in the stream
+     * @return a {@code Collector} which collects all the input elements into
+     *         a Right containing all RHS values in the stream, or,
+     *         if an LHS value exists, a Left containing the first LHS value
+     */
+    public static <L>
+    Collector<LongEither<? extends L>, ?, Either<L, long[]>>
+    firstFailureLong() {
+
+        BiConsumer<LongAcc<L>, LongEither<? extends L>> accumulator = (acc, either) ->
+                either.ifLeftOrElse(acc::addLeft, acc::addRight);
+
+        BinaryOperator<LongAcc<L>> combiner = (acc, other) ->
+                (LongAcc<L>) acc.combine(other);
+
+        return new CollectorImpl<>(() -> new LongAcc<>(false), accumulator, combiner, LongAcc::finishFirstFailure);
+    }
+
+    /**
+     * Returns a {@code Collector} that accumulates the input elements into
+     * a Right containing an array of all RHS values in the original order,
+     * but only if there are no Left instances in the stream.
+     * If the stream does contain a Left instance, it discards the RHS values and
+     * accumulates a Left containing only the LHS values,
+     * in encounter order.
+     *
+     * @see #allFailures()
+     * @param <L> the type of the LHS values in the stream
+     * @return a {@code Collector} which collects all the input elements into
+     *         a Right containing all RHS values in the stream,
+     *         or, if an LHS value exists, a Left containing a nonempty list
+     *         of all LHS values in the stream
+     */
+    public static <L>
+    Collector<LongEither<? extends L>, ?, Either<List<L>, long[]>>
+    allFailuresLong() {
+
+        BiConsumer<LongAcc<L>, LongEither<? extends L>> accumulator = (acc, either) ->
+                either.ifLeftOrElse(acc::addLeft, acc::addRight);
+
+        BinaryOperator<LongAcc<L>> combiner = (acc, other) ->
+                (LongAcc<L>) acc.combine(other);
+
+        return new CollectorImpl<>(() -> new LongAcc<>(true), accumulator, combiner, LongAcc::finishAllFailures);
+    }
+
+    /**
+     * Returns a {@code Collector} that accumulates the input elements into
+     * a Right containing an array of all RHS values in the original order,
+     * but only if there are no Left instances in the stream.
+     * If the stream does contain a Left instance, it discards the RHS values and
+     * accumulates a Left instance, which contains the first LHS value in the stream,
+     * in encounter order.
+     *
+     * @see #firstFailure()
+     * @param <L> the type of the LHS values in the stream
+     * @return a {@code Collector} which collects all the input elements into
+     *         a Right containing all RHS values in the stream, or,
+     *         if an LHS value exists, a Left containing the first LHS value
+     */
+    public static <L>
+    Collector<DoubleEither<? extends L>, ?, Either<L, double[]>>
+    firstFailureDouble() {
+
+        BiConsumer<DoubleAcc<L>, DoubleEither<? extends L>> accumulator = (acc, either) ->
+                either.ifLeftOrElse(acc::addLeft, acc::addRight);
+
+        BinaryOperator<DoubleAcc<L>> combiner = (acc, other) ->
+                (DoubleAcc<L>) acc.combine(other);
+
+        return new CollectorImpl<>(() -> new DoubleAcc<>(false), accumulator, combiner, DoubleAcc::finishFirstFailure);
+    }
+
+    /**
+     * Returns a {@code Collector} that accumulates the input elements into
+     * a Right containing an array of all RHS values in the original order,
+     * but only if there are no Left instances in the stream.
+     * If the stream does contain a Left instance, it discards the RHS values and
+     * accumulates a Left containing only the LHS values,
+     * in encounter order.
+     *
+     * @see #allFailures()
+     * @param <L> the type of the LHS values in the stream
+     * @return a {@code Collector} which collects all the input elements into
+     *         a Right containing all RHS values in the stream,
+     *         or, if an LHS value exists, a Left containing a nonempty list
+     *         of all LHS values in the stream
+     */
+    public static <L>
+    Collector<DoubleEither<? extends L>, ?, Either<List<L>, double[]>>
+    allFailuresDouble() {
+
+        BiConsumer<DoubleAcc<L>, DoubleEither<? extends L>> accumulator = (acc, either) ->
+                either.ifLeftOrElse(acc::addLeft, acc::addRight);
+
+        BinaryOperator<DoubleAcc<L>> combiner = (acc, other) ->
+                (DoubleAcc<L>) acc.combine(other);
+
+        return new CollectorImpl<>(() -> new DoubleAcc<>(true), accumulator, combiner, DoubleAcc::finishAllFailures);
+    }
+
+    /**
+     * Applies the {@code mapper} function to each element of the input,
+     * in iteration order, and collects the RHS values into a Right.
+     * Unlike the {@link #firstFailure()} collector, this method stops consuming
+     * the input as soon as the {@code mapper} returns a Left,
+     * and returns that Left.
+     *
+     * @param input the input elements
+     * @param mapper the function to apply to each element
+     * @param <T> the type of the input elements
+     * @param <L> the LHS type of the {@code mapper} results
+     * @param <R> the RHS type of the {@code mapper} results
+     * @return a Right containing the RHS values of all {@code mapper} results,
+     *         or the first Left returned by the {@code mapper}
+     */
+    public static <T, L, R> Either<L, List<R>> traverse(
+            Iterable<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper) {
+        List<R> result = input instanceof Collection
+                ? new ArrayList<>(((Collection<?>) input).size())
+                : new ArrayList<>();
+        return traverse(input.iterator(), mapper, result);
+    }
+
+    /**
+     * Applies the {@code mapper} function to each remaining element of the iterator,
+     * and collects the RHS values into a Right.
+     * Stops consuming the iterator as soon as the {@code mapper} returns a Left,
+     * and returns that Left.
+     *
+     * @see #traverse(Iterable, Function)
+     * @param input an iterator over the input elements
+     * @param mapper the function to apply to each element
+     * @param <T> the type of the input elements
+     * @param <L> the LHS type of the {@code mapper} results
+     * @param <R> the RHS type of the {@code mapper} results
+     * @return a Right containing the RHS values of all {@code mapper} results,
+     *         or the first Left returned by the {@code mapper}
+     */
+    public static <T, L, R> Either<L, List<R>> traverse(
+            Iterator<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper) {
+        return traverse(input, mapper, new ArrayList<>());
+    }
+
+    /**
+     * Applies the {@code mapper} function to each element of the stream,
+     * in encounter order, and collects the RHS values into a Right.
+     * Stops pulling elements from the stream as soon as the {@code mapper} returns a Left,
+     * and returns that Left.
+     * This is a terminal operation.
+     *
+     * @see #traverse(Iterable, Function)
+     * @param input a stream of input elements
+     * @param mapper the function to apply to each element
+     * @param <T> the type of the input elements
+     * @param <L> the LHS type of the {@code mapper} results
+     * @param <R> the RHS type of the {@code mapper} results
+     * @return a Right containing the RHS values of all {@code mapper} results,
+     *         or the first Left returned by the {@code mapper}
+     */
+    public static <T, L, R> Either<L, List<R>> traverse(
+            Stream<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper) {
+        return traverse(input.iterator(), mapper, new ArrayList<>());
+    }
+
+    /**
+     * Applies the {@code mapper} function to all elements of the input concurrently,
+     * using the given {@code executor}, and collects the RHS values into a Right,
+     * in the order of the input.
+     * As soon as the {@code mapper} returns a Left, tasks that have not started yet
+     * are skipped, running tasks are interrupted, and the Left is returned.
+     * If several tasks return a Left, it is unspecified which of them is returned.
+     *
+     * <p>This method waits until all tasks have finished.
+     * If the calling thread is a fork-join worker, it waits through
+     * {@link java.util.concurrent.ForkJoinPool#managedBlock managedBlock}.
+     * If the {@code mapper} throws an exception, it is rethrown
+     * after the other tasks were cancelled.
+     *
+     * @see #traverse(Iterable, Function)
+     * @param input the input elements
+     * @param mapper the function to apply to each element
+     * @param executor the executor which runs the tasks; if the {@code mapper} blocks,
+     *                 for example on I/O, this should not be the common pool
+     *                 or another pool of fixed size that the caller depends on
+     * @param <T> the type of the input elements
+     * @param <L> the LHS type of the {@code mapper} results
+     * @param <R> the RHS type of the {@code mapper} results
+     * @return a Right containing the RHS values of all {@code mapper} results,
+     *         or a Left returned by the {@code mapper}
+     * @throws java.util.concurrent.CancellationException if the calling thread
+     *         is interrupted while waiting
+     */
+    public static <T, L, R> Either<L, List<R>> parallelTraverse(
+            Collection<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper,
+            Executor executor) {
+        return ParallelTraversal.firstFailure(input, mapper, executor);
+    }
+
+    /**
+     * Applies the {@code mapper} function to all elements of the input concurrently,
+     * using a default executor.
+     * On Java 21 and later, each task runs in a new virtual thread.
+     * On earlier versions, the tasks run in a dedicated pool of daemon threads,
+     * not in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool},
+     * so tasks that block on I/O cannot starve other users of the common pool.
+     * That pool runs a bounded number of tasks at the same time;
+     * pass an executor to control the concurrency.
+     *
+     * @see #parallelTraverse(Collection, Function, Executor)
+     * @param input the input elements
+     * @param mapper the function to apply to each element
+     * @param <T> the type of the input elements
+     * @param <L> the LHS type of the {@code mapper} results
+     * @param <R> the RHS type of the {@code mapper} results
+     * @return a Right containing the RHS values of all {@code mapper} results,
+     *         or a Left returned by the {@code mapper}
+     */
+    public static <T, L, R> Either<L, List<R>> parallelTraverse(
+            Collection<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper) {
+        return TaskExecutors.withDefaultExecutor(executor -> parallelTraverse(input, mapper, executor));
+    }
+
+    /**
+     * Applies the {@code mapper} function to all elements of the input concurrently,
+     * using the given {@code executor}, and waits until all tasks have finished.
+     * If all results are Right, returns a Right containing the RHS values,
+     * in the order of the input.
+     * Otherwise returns a Left containing all LHS values, in the order of the input.
+     *
+     * <p>If the calling thread is a fork-join worker, it waits through
+     * {@link java.util.concurrent.ForkJoinPool#managedBlock managedBlock}.
+     * If the {@code mapper} throws an exception, the other tasks are cancelled,
+     * and the exception is rethrown.
+     *
+     * @see #allFailures()
+     * @param input the input elements
+     * @param mapper the function to apply to each element
+     * @param executor the executor which runs the tasks; if the {@code mapper} blocks,
+     *                 for example on I/O, this should not be the common pool
+     *                 or another pool of fixed size that the caller depends on
+     * @param <T> the type of the input elements
+     * @param <L> the LHS type of the {@code mapper} results
+     * @param <R> the RHS type of the {@code mapper} results
+     * @return a Right containing the RHS values of all {@code mapper} results,
+     *         or a Left containing a nonempty list of all LHS values
+     * @throws java.util.concurrent.CancellationException if the calling thread
+     *         is interrupted while waiting
+     */
+    public static <T, L, R> Either<List<L>, List<R>> parallelTraverseAllFailures(
+            Collection<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper,
+            Executor executor) {
+        return ParallelTraversal.allFailures(input, mapper, executor);
+    }
+
+    /**
+     * Applies the {@code mapper} function to all elements of the input concurrently,
+     * using a default executor.
+     * On Java 21 and later, each task runs in a new virtual thread.
+     * On earlier versions, the tasks run in a dedicated pool of daemon threads,
+     * not in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool},
+     * so tasks that block on I/O cannot starve other users of the common pool.
+     * That pool runs a bounded number of tasks at the same time;
+     * pass an executor to control the concurrency.
+     *
+     * @see #parallelTraverseAllFailures(Collection, Function, Executor)
+     * @param input the input elements
+     * @param mapper the function to apply to each element
+     * @param <T> the type of the input elements
+     * @param <L> the LHS type of the {@code mapper} results
+     * @param <R> the RHS type of the {@code mapper} results
+     * @return a Right containing the RHS values of all {@code mapper} results,
+     *         or a Left containing a nonempty list of all LHS values
+     */
+    public static <T, L, R> Either<List<L>, List<R>> parallelTraverseAllFailures(
+            Collection<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper) {
+        return TaskExecutors.withDefaultExecutor(executor -> parallelTraverseAllFailures(input, mapper, executor));
+    }
+
+    /**
+     * Applies the {@code mapper} function to each element of the input,
+     * in iteration order. If all results are Right, returns a Right containing
+     * the RHS values. Otherwise returns a Left containing at most
+     * {@code maxFailures} LHS values.
+     * This method stops consuming the input when the {@code mapper}
+     * returns a Left, and {@code maxFailures} LHS values were already found.
+     * In this case the remaining input is not examined, so the
+     * {@link TruncatedList#omitted() omitted} count of the result is
+     * {@link TruncatedList#UNKNOWN UNKNOWN}, and
+     * {@link TruncatedList#isTruncated() isTruncated} returns {@code true}.
+     *
+     * @see #allFailures(int)
+     * @param input the input elements
+     * @param mapper the function to apply to each element
+     * @param maxFailures the maximum number of LHS values to keep
+     * @param <T> the type of the input elements
+     * @param <L> the LHS type of the {@code mapper} results
+     * @param <R> the RHS type of the {@code mapper} results
+     * @return a Right containing the RHS values of all {@code mapper} results,
+     *         or a Left containing a nonempty list of at most {@code maxFailures} LHS values
+     * @throws IllegalArgumentException if {@code maxFailures} is not positive
+     */
+    public static <T, L, R> Either<TruncatedList<L>, List<R>> traverseAllFailures(
+            Iterable<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper,
+            int maxFailures) {
+        return traverseAllFailures(input.iterator(), mapper, maxFailures);
+    }
+
+    /**
+     * Applies the {@code mapper} function to each remaining element of the iterator.
+     *
+     * @see #traverseAllFailures(Iterable, Function, int)
+     * @param input an iterator over the input elements
+     * @param mapper the function to apply to each element
+     * @param maxFailures the maximum number of LHS values to keep
+     * @param <T> the type of the input elements
+     * @param <L> the LHS type of the {@code mapper} results
+     * @param <R> the RHS type of the {@code mapper} results
+     * @return a Right containing the RHS values of all {@code mapper} results,
+     *         or a Left containing a nonempty list of at most {@code maxFailures} LHS values
+     * @throws IllegalArgumentException if {@code maxFailures} is not positive
+     */
+    public static <T, L, R> Either<TruncatedList<L>, List<R>> traverseAllFailures(
+            Iterator<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper,
+            int maxFailures) {
+        checkMaxFailures(maxFailures);
+        List<R> right = new ArrayList<>();
+        List<L> left = null;
+        while (input.hasNext()) {
+            Either<? extends L, ? extends R> either = mapper.apply(input.next());
+            if (either.isLeft()) {
+                if (left == null) {
+                    left = new ArrayList<>();
+                    right = null;
+                } else if (left.size() == maxFailures) {
+                    return Either.left(new TruncatedList<>(left, TruncatedList.UNKNOWN));
+                }
+                left.add(either.leftOrNull());
+            } else if (left == null) {
+                right.add(either.rightOrNull());
+            }
+        }
+        if (left != null) {
+            return Either.left(new TruncatedList<>(left, 0));
+        }
+        return Either.right(right);
+    }
+
+    /**
+     * Applies the {@code mapper} function to each element of the stream.
+     * This is a terminal operation.
+     *
+     * @see #traverseAllFailures(Iterable, Function, int)
+     * @param input a stream of input elements
+     * @param mapper the function to apply to each element
+     * @param maxFailures the maximum number of LHS values to keep
+     * @param <T> the type of the input elements
+     * @param <L> the LHS type of the {@code mapper} results
+     * @param <R> the RHS type of the {@code mapper} results
+     * @return a Right containing the RHS values of all {@code mapper} results,
+     *         or a Left containing a nonempty list of at most {@code maxFailures} LHS values
+     * @throws IllegalArgumentException if {@code maxFailures} is not positive
+     */
+    public static <T, L, R> Either<TruncatedList<L>, List<R>> traverseAllFailures(
+            Stream<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper,
+            int maxFailures) {
+        return traverseAllFailures(input.iterator(), mapper, maxFailures);
+    }
+
+    private static <T, L, R> Either<L, List<R>> traverse(
+            Iterator<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper,
+            List<R> result) {
+        while (input.hasNext()) {
+            Either<? extends L, ? extends R> either = mapper.apply(input.next());
+            if (either.isLeft()) {
+                @SuppressWarnings("unchecked")
+                Either<L, List<R>> failure = (Either<L, List<R>>) either;
+                return failure;
+            }
+            result.add(either.rightOrNull());
+        }
+        return Either.right(result);
+    }
+
+    /**
+     * If the input list contains a Left, returns the first Left.
+     * Otherwise returns a Right containing the RHS values,
+     * in the order of the input.
+     * The size of the input is known up front, so the result list is
+     * allocated once with the exact size.
+     *
+     * @param input a list of {@code Either}
+     * @param <L> the LHS type of the input elements
+     * @param <R> the RHS type of the input elements
+     * @return a Right containing an unmodifiable list of all RHS values,
+     *         or the first Left in the input
+     */
+    public static <L, R> Either<L, List<R>> sequence(
+            List<? extends Either<? extends L, ? extends R>> input) {
+        int size = input.size();
+        if (size == 0) {
+            return Either.rightEmptyList();
+        }
+        Object[] rights = new Object[size];
+        Iterator<? extends Either<? extends L, ? extends R>> it = input.iterator();
+        for (int i = 0; i < size; i++) {
+            Either<? extends L, ? extends R> either = it.next();
+            if (either.isLeft()) {
+                @SuppressWarnings("unchecked")
+                Either<L, List<R>> failure = (Either<L, List<R>>) either;
+                return failure;
+            }
+            rights[i] = either.rightOrNull();
+        }
+        return Either.right(unmodifiableList(rights));
+    }
+
+    /**
+     * If the input array contains a Left, returns the first Left.
+     * Otherwise returns a Right containing the RHS values,
+     * in the order of the input.
+     *
+     * @see #sequence(List)
+     * @param input an array of {@code Either}
+     * @param <L> the LHS type of the input elements
+     * @param <R> the RHS type of the input elements
+     * @return a Right containing an unmodifiable list of all RHS values,
+     *         or the first Left in the input
+     */
+    public static <L, R> Either<L, List<R>> sequence(
+            Either<? extends L, ? extends R>[] input) {
+        return sequence(Arrays.asList(input));
+    }
+
+    /**
+     * If the input list contains a Left, returns a Left containing
+     * all LHS values. Otherwise returns a Right containing the RHS values.
+     * The order of the input is preserved in both cases.
+     * The lists in the result are allocated once with the exact size.
+     *
+     * @param input a list of {@code Either}
+     * @param <L> the LHS type of the input elements
+     * @param <R> the RHS type of the input elements
+     * @return a Right containing an unmodifiable list of all RHS values,
+     *         or a Left containing an unmodifiable list of all LHS values
+     */
+    public static <L, R> Either<List<L>, List<R>> sequenceAllFailures(
+            List<? extends Either<? extends L, ? extends R>> input) {
+        int size = input.size();
+        int firstLeft = -1;
+        int leftCount = 0;
+        Iterator<? extends Either<? extends L, ? extends R>> it = input.iterator();
+        for (int i = 0; i < size; i++) {
+            if (it.next().isLeft()) {
+                if (leftCount++ == 0) {
+                    firstLeft = i;
+                }
+            }
+        }
+        if (leftCount == 0) {
+            if (size == 0) {
+                return Either.rightEmptyList();
+            }
+            Object[] rights = new Object[size];
+            it = input.iterator();
+            for (int i = 0; i < size; i++) {
+                rights[i] = it.next().rightOrNull();
+            }
+            return Either.right(unmodifiableList(rights));
+        }
+        Object[] lefts = new Object[leftCount];
+        it = input.listIterator(firstLeft);
+        for (int j = 0; j < leftCount; ) {
+            Either<? extends L, ? extends R> either = it.next();
+            if (either.isLeft()) {
+                lefts[j++] = either.leftOrNull();
+            }
+        }
+        return Either.left(unmodifiableList(lefts));
+    }
+
+    /**
+     * If the input array contains a Left, returns a Left containing
+     * all LHS values. Otherwise returns a Right containing the RHS values.
+     *
+     * @see #sequenceAllFailures(List)
+     * @param input an array of {@code Either}
+     * @param <L> the LHS type of the input elements
+     * @param <R> the RHS type of the input elements
+     * @return a Right containing an unmodifiable list of all RHS values,
+     *         or a Left containing an unmodifiable list of all LHS values
+     */
+    public static <L, R> Either<List<L>, List<R>> sequenceAllFailures(
+            Either<? extends L, ? extends R>[] input) {
+        return sequenceAllFailures(Arrays.asList(input));
+    }
+
+    private static <E> List<E> unmodifiableList(Object[] values) {
+        @SuppressWarnings("unchecked")
+        List<E> result = (List<E>) Arrays.asList(values);
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns a stream of the RHS values in the input stream,
+     * skipping the Left instances.
+     * Unlike {@code flatMap(either -> either.getRight().stream())},
+     * this does not allocate per element.
+     * The returned stream is parallel if the input stream is parallel,
+     * and closing it closes the input stream.
+     * This is an intermediate operation.
+     *
+     * @param input a stream of {@code Either}
+     * @param <L> the LHS type of the input elements
+     * @param <R> the RHS type of the input elements
+     * @return a stream of the RHS values
+     */
+    public static <L, R> Stream<R> rights(
+            Stream<? extends Either<? extends L, ? extends R>> input) {
+        return StreamSupport.stream(SideSpliterator.<L, R>rights(input.spliterator(), null), input.isParallel())
+                .onClose(input::close);
+    }
+
+    /**
+     * Returns a stream of the LHS values in the input stream,
+     * skipping the Right instances.
+     * This is an intermediate operation.
+     *
+     * @see #rights(Stream)
+     * @param input a stream of {@code Either}
+     * @param <L> the LHS type of the input elements
+     * @param <R> the RHS type of the input elements
+     * @return a stream of the LHS values
+     */
+    public static <L, R> Stream<L> lefts(
+            Stream<? extends Either<? extends L, ? extends R>> input) {
+        return StreamSupport.stream(SideSpliterator.<L, R>lefts(input.spliterator()), input.isParallel())
+                .onClose(input::close);
+    }
 
-        return new CollectorImpl<>(FirstFailureAcc::new, accumulator, combiner, FirstFailureAcc::finish);
+    /**
+     * Returns a stream of the RHS values in the input stream.
+     * The LHS values are passed to the {@code leftAction}, as the
+     * returned stream is consumed.
+     * If the returned stream is parallel, the {@code leftAction}
+     * may be invoked concurrently from several threads.
+     * This is an intermediate operation.
+     *
+     * @see #rights(Stream)
+     * @param input a stream of {@code Either}
+     * @param leftAction an action to perform on the LHS values
+     * @param <L> the LHS type of the input elements
+     * @param <R> the RHS type of the input elements
+     * @return a stream of the RHS values
+     */
+    public static <L, R> Stream<R> tee(
+            Stream<? extends Either<? extends L, ? extends R>> input,
+            Consumer<? super L> leftAction) {
+        return StreamSupport.stream(SideSpliterator.<L, R>rights(input.spliterator(), requireNonNull(leftAction)), input.isParallel())
+                .onClose(input::close);
     }
 
     /**
-     * Returns a {@code Collector} that accumulates the input elements into
-     * a Right containing all values in the original order,
-     * but only if there are no Left instances in the stream.
-     * If the stream does contain a Left instance, it discards the Right instances and
-     * accumulates a Left containing only the LHS values,
-     * in encounter order.
+     * Returns a {@code Collector} that accumulates the input elements
+     * into an {@link EitherBatch}, preserving encounter order.
      *
-     * @param <L> the type of the LHS values in the stream
-     * @param <R> the type of the RHS values in the stream
-     * @return a {@code Collector} which collects all the input elements into
-     *         a Right containing all RHS values in the stream,
-     *         or, if an LHS value exists, a Left containing a nonempty list
-     *         of all LHS values in the stream
+     * @param <L> the LHS type of the input elements
+     * @param <R> the RHS type of the input elements
+     * @return a collector that produces a columnar batch
      */
     public static <L, R>
-    Collector<Either<? extends L, ? extends R>, ?, Either<List<L>, List<R>>>
-    allFailures() {
-
-        BiConsumer<AllFailuresAcc<L, R>, Either<? extends L, ? extends R>> accumulator = (acc, either) ->
-                either.ifLeftOrElse(acc::addLeft, acc::addRight);
-
-        BinaryOperator<AllFailuresAcc<L, R>> combiner = (acc, other) ->
-                (AllFailuresAcc<L, R>) acc.combine(other);
-
-        return new CollectorImpl<>(AllFailuresAcc::new, accumulator, combiner, AllFailuresAcc::finish);
+    Collector<Either<? extends L, ? extends R>, ?, EitherBatch<L, R>>
+    toBatch() {
+        return new CollectorImpl<>(
+                EitherBatch::<L, R>builder,
+                EitherBatch.Builder::add,
+                EitherBatch.Builder::combine,
+                EitherBatch.Builder::build);
     }
 
     /**
@@ -117,7 +995,117 @@ public final class Eithers {
     }
 
     /**
-     * Simple implementation class for a collector with characteristic {@link #CH_NOID}.
+     * Returns a thread-safe function that caches the results of the {@code loader}.
+     * Rights and Lefts are cached separately, according to the given policies.
+     * Concurrent calls with the same key invoke the {@code loader} only once.
+     *
+     * @see EitherCache
+     * @param loader the function to memoize, must not return {@code null}
+     * @param rightPolicy size limit and time-to-live of the cached Rights
+     * @param leftPolicy size limit and time-to-live of the cached Lefts
+     * @param <K> the type of the keys
+     * @param <L> the LHS type of the {@code loader} results
+     * @param <R> the RHS type of the {@code loader} results
+     * @return a caching function
+     */
+    public static <K, L, R> EitherCache<K, L, R> memoize(
+            Function<? super K, ? extends Either<? extends L, ? extends R>> loader,
+            EitherCache.Policy rightPolicy,
+            EitherCache.Policy leftPolicy) {
+        return EitherCache.create(loader, rightPolicy, leftPolicy, System::nanoTime);
+    }
+
+    /**
+     * Returns a collector that behaves like the given collector,
+     * and records a JFR event of type {@code io.jbock.util.Collector}
+     * for each run.
+     * The event contains the number of input elements and Left elements,
+     * the size of the result, and the time spent in the combiner and in total.
+     * If the {@code jdk.jfr} module is not present, or the event is not enabled,
+     * no event is recorded.
+     *
+     * @see #instrument(String, Collector, CollectorMetrics)
+     * @param name a name that identifies the collector in the recorded events
+     * @param collector the collector to instrument
+     * @param <T> the type of the input elements
+     * @param <A> the accumulation type of the collector
+     * @param <R> the result type of the collector
+     * @return an instrumented collector
+     */
+    public static <T extends Either<?, ?>, A, R> Collector<T, ?, R> instrument(
+            String name,
+            Collector<T, A, R> collector) {
+        return instrumentImpl(requireNonNull(name), collector, null);
+    }
+
+    /**
+     * Returns a collector that behaves like the given collector,
+     * and records each run in the given {@code metrics},
+     * in addition to the JFR event described in {@link #instrument(String, Collector)}.
+     *
+     * <p>The counting is done per result container, so the instrumented
+     * collector does not have the {@code CONCURRENT} characteristic,
+     * even if the given collector has it.
+     * Collectors that are not instrumented are not affected.
+     *
+     * @param name a name that identifies the collector in the recorded events
+     * @param collector the collector to instrument
+     * @param metrics the counters to update
+     * @param <T> the type of the input elements
+     * @param <A> the accumulation type of the collector
+     * @param <R> the result type of the collector
+     * @return an instrumented collector
+     */
+    public static <T extends Either<?, ?>, A, R> Collector<T, ?, R> instrument(
+            String name,
+            Collector<T, A, R> collector,
+            CollectorMetrics metrics) {
+        return instrumentImpl(requireNonNull(name), collector, requireNonNull(metrics));
+    }
+
+    private static <T extends Either<?, ?>, A, R> Collector<T, ?, R> instrumentImpl(
+            String name,
+            Collector<T, A, R> collector,
+            CollectorMetrics metrics) {
+        Supplier<A> supplier = collector.supplier();
+        BiConsumer<A, T> accumulator = collector.accumulator();
+        BinaryOperator<A> combiner = collector.combiner();
+        Function<A, R> finisher = collector.finisher();
+        Set<Collector.Characteristics> characteristics = collector.characteristics()
+                .contains(Collector.Characteristics.UNORDERED)
+                ? Set.of(Collector.Characteristics.UNORDERED)
+                : CH_NOID;
+        return new CollectorImpl<>(
+                () -> new InstrumentedAcc<>(supplier.get(), System.nanoTime()),
+                (acc, t) -> {
+                    acc.elements++;
+                    if (t.isLeft()) {
+                        acc.lefts++;
+                    }
+                    accumulator.accept(acc.delegate, t);
+                },
+                (acc, other) -> {
+                    long start = System.nanoTime();
+                    A merged = combiner.apply(acc.delegate, other.delegate);
+                    long nanos = System.nanoTime() - start;
+                    return acc.combine(merged, other, nanos);
+                },
+                acc -> {
+                    R result = finisher.apply(acc.delegate);
+                    acc.record(name, result, metrics);
+                    return result;
+                },
+                characteristics);
+    }
+
+    private static void checkMaxFailures(int maxFailures) {
+        if (maxFailures <= 0) {
+            throw new IllegalArgumentException("maxFailures must be positive: " + maxFailures);
+        }
+    }
+
+    /**
+     * Simple implementation class for a collector.
      *
      * @param <T> the type of elements to be collected
      * @param <R> the type of the result
@@ -127,15 +1115,25 @@ public final class Eithers {
         final BiConsumer<A, T> accumulator;
         final BinaryOperator<A> combiner;
         final Function<A, R> finisher;
+        final Set<Characteristics> characteristics;
 
         CollectorImpl(Supplier<A> supplier,
                       BiConsumer<A, T> accumulator,
                       BinaryOperator<A> combiner,
-                      Function<A, R> finisher) {
+                      Function<A, R> finisher,
+                      Set<Characteristics> characteristics) {
             this.supplier = supplier;
             this.accumulator = accumulator;
             this.combiner = combiner;
             this.finisher = finisher;
+            this.characteristics = characteristics;
+        }
+
+        CollectorImpl(Supplier<A> supplier,
+                      BiConsumer<A, T> accumulator,
+                      BinaryOperator<A> combiner,
+                      Function<A, R> finisher) {
+            this(supplier, accumulator, combiner, finisher, CH_NOID);
         }
 
         @Override
@@ -160,7 +1158,7 @@ public final class Eithers {
 
         @Override
         public Set<Characteristics> characteristics() {
-            return CH_NOID;
+            return characteristics;
         }
     }
 
@@ -171,31 +1169,32 @@ public final class Eithers {
      */
     // visible for testing
     static abstract class Acc<L, C, R> {
-        private ArrayList<R> right;
+        private Chunks<R> right;
 
-        abstract void combineLeft(C otherLeft);
+        abstract void combineLeft(Acc<L, C, R> other);
+
+        abstract boolean hasLeft();
 
-        // nullable
         abstract C leftColl();
 
         abstract void addLeft(L left);
 
         final void addRight(R value) {
-            if (leftColl() != null) {
+            if (hasLeft()) {
                 return;
             }
             if (right == null) {
-                right = new ArrayList<>();
+                right = new Chunks<>();
             }
             right.add(value);
         }
 
         final Acc<L, C, R> combine(Acc<L, C, R> other) {
-            if (leftColl() != null) {
-                combineLeft(other.leftColl());
+            if (hasLeft()) {
+                combineLeft(other);
                 return this;
             }
-            if (other.leftColl() != null) {
+            if (other.hasLeft()) {
                 return other;
             }
             if (other.right == null) {
@@ -210,10 +1209,50 @@ public final class Eithers {
         }
 
         final Either<C, List<R>> finish() {
-            C left = leftColl();
-            return left != null
-                    ? Either.left(left)
-                    : Either.right(right == null ? List.of() : right);
+            if (hasLeft()) {
+                return Either.left(leftColl());
+            }
+            return right == null ? Either.rightEmptyList() : Either.right(right.toList());
+        }
+    }
+
+    private static final class InstrumentedAcc<A> {
+        final A delegate;
+        long startNanos;
+        long elements;
+        long lefts;
+        long combines;
+        long combineNanos;
+
+        InstrumentedAcc(A delegate, long startNanos) {
+            this.delegate = delegate;
+            this.startNanos = startNanos;
+        }
+
+        InstrumentedAcc<A> combine(A merged, InstrumentedAcc<A> other, long nanos) {
+            InstrumentedAcc<A> result = merged == delegate ? this : new InstrumentedAcc<>(merged, startNanos);
+            result.startNanos = Math.min(startNanos, other.startNanos);
+            result.elements = elements + other.elements;
+            result.lefts = lefts + other.lefts;
+            result.combines = combines + other.combines + 1;
+            result.combineNanos = combineNanos + other.combineNanos + nanos;
+            return result;
+        }
+
+        void record(String name, Object result, CollectorMetrics metrics) {
+            long totalNanos = System.nanoTime() - startNanos;
+            boolean failed = false;
+            Object value = result;
+            if (result instanceof Either) {
+                Either<?, ?> either = (Either<?, ?>) result;
+                failed = either.isLeft();
+                value = failed ? either.leftOrNull() : either.rightOrNull();
+            }
+            long resultSize = value instanceof Collection ? ((Collection<?>) value).size() : 1;
+            if (metrics != null) {
+                metrics.record(elements, lefts, failed, resultSize, combines, combineNanos, totalNanos);
+            }
+            JfrSupport.commit(name, elements, lefts, failed, resultSize, combines, combineNanos, totalNanos);
         }
     }
 
@@ -221,8 +1260,16 @@ public final class Eithers {
         L left;
 
         @Override
-        void combineLeft(L otherLeft) {
-            addLeft(otherLeft);
+        void combineLeft(Acc<L, L, R> other) {
+            FirstFailureAcc<L, R> acc = (FirstFailureAcc<L, R>) other;
+            if (acc.left != null) {
+                addLeft(acc.left);
+            }
+        }
+
+        @Override
+        boolean hasLeft() {
+            return left != null;
         }
 
         @Override
@@ -232,34 +1279,415 @@ public final class Eithers {
             }
         }
 
+        @Override
         L leftColl() {
             return left;
         }
     }
 
     private static final class AllFailuresAcc<L, R> extends Acc<L, List<L>, R> {
-        List<L> left;
+        Chunks<L> left;
 
         @Override
-        void combineLeft(List<L> otherLeft) {
-            if (left == null) {
-                left = otherLeft;
-            } else if (otherLeft != null) {
-                left.addAll(otherLeft);
+        void combineLeft(Acc<L, List<L>, R> other) {
+            AllFailuresAcc<L, R> acc = (AllFailuresAcc<L, R>) other;
+            if (acc.left != null) {
+                left.addAll(acc.left);
             }
         }
 
+        @Override
+        boolean hasLeft() {
+            return left != null;
+        }
+
         @Override
         void addLeft(L value) {
             if (left == null) {
-                left = new ArrayList<>();
+                left = new Chunks<>();
             }
             left.add(value);
         }
 
         @Override
         List<L> leftColl() {
-            return left;
+            return left.toList();
+        }
+    }
+
+    private static final class SpillingFailuresAcc<L, R> extends Acc<L, SpilledLefts<L>, R> {
+        final ValueCodec<L> codec;
+        final int inMemoryLimit;
+        final Path directory;
+        final int segmentSize;
+        final List<Object> parts = new ArrayList<>(); // only files, until leftColl
+        SpillFile<L> file;
+        List<L> tail = new ArrayList<>();
+        long size;
+
+        SpillingFailuresAcc(ValueCodec<L> codec, int inMemoryLimit, Path directory, int segmentSize) {
+            this.codec = codec;
+            this.inMemoryLimit = inMemoryLimit;
+            this.directory = directory;
+            this.segmentSize = segmentSize;
+        }
+
+        @Override
+        void combineLeft(Acc<L, SpilledLefts<L>, R> other) {
+            SpillingFailuresAcc<L, R> acc = (SpillingFailuresAcc<L, R>) other;
+            if (!acc.hasLeft()) {
+                return;
+            }
+            acc.finishFile();
+            if (acc.parts.isEmpty()) {
+                // the other container is entirely in memory
+                for (L value : acc.tail) {
+                    addLeft(value);
+                }
+                return;
+            }
+            // the other container's files follow this container's tail
+            try {
+                spillTail();
+            } catch (RuntimeException | Error e) {
+                acc.closeFiles(e);
+                throw e;
+            }
+            finishFile();
+            parts.addAll(acc.parts);
+            tail = acc.tail;
+            size += acc.size;
+        }
+
+        @Override
+        boolean hasLeft() {
+            return size != 0;
+        }
+
+        @Override
+        void addLeft(L value) {
+            tail.add(value);
+            size++;
+            if (tail.size() > inMemoryLimit) {
+                spillTail();
+            }
+        }
+
+        @Override
+        SpilledLefts<L> leftColl() {
+            finishFile();
+            if (!tail.isEmpty()) {
+                parts.add(tail);
+                tail = new ArrayList<>();
+            }
+            return new SpilledLefts<>(parts, size);
+        }
+
+        // Only the tail is kept in memory. It comes after all files.
+        private void spillTail() {
+            if (tail.isEmpty()) {
+                return;
+            }
+            try {
+                if (file == null) {
+                    file = SpillFile.create(directory, codec, segmentSize);
+                }
+                for (L l : tail) {
+                    file.write(l);
+                }
+            } catch (RuntimeException | Error e) {
+                closeFiles(e);
+                throw e;
+            }
+            tail.clear();
+        }
+
+        // Invoked when accumulation fails, so the channels are not left open until GC.
+        private void closeFiles(Throwable failure) {
+            finishFile();
+            for (Object part : parts) {
+                if (part instanceof SpillFile) {
+                    try {
+                        ((SpillFile<?>) part).close();
+                    } catch (RuntimeException e) {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            parts.clear();
+        }
+
+        private void finishFile() {
+            if (file != null) {
+                file.finishSegment();
+                parts.add(file);
+                file = null;
+            }
+        }
+    }
+
+    private static final class BoundedFailuresAcc<L, R> extends Acc<L, TruncatedList<L>, R> {
+        final int maxFailures;
+        Chunks<L> left;
+        long omitted;
+
+        BoundedFailuresAcc(int maxFailures) {
+            this.maxFailures = maxFailures;
+        }
+
+        @Override
+        void combineLeft(Acc<L, TruncatedList<L>, R> other) {
+            BoundedFailuresAcc<L, R> acc = (BoundedFailuresAcc<L, R>) other;
+            if (acc.left == null) {
+                return;
+            }
+            if (left.size() + acc.left.size() <= maxFailures) {
+                left.addAll(acc.left);
+            } else {
+                for (L value : acc.left.toList()) {
+                    addLeft(value);
+                }
+            }
+            omitted += acc.omitted;
+        }
+
+        @Override
+        boolean hasLeft() {
+            return left != null;
+        }
+
+        @Override
+        void addLeft(L value) {
+            if (left == null) {
+                left = new Chunks<>();
+            }
+            if (left.size() == maxFailures) {
+                omitted++;
+                return;
+            }
+            left.add(value);
+        }
+
+        @Override
+        TruncatedList<L> leftColl() {
+            return new TruncatedList<>(left.toList(), omitted);
+        }
+    }
+
+    // The accumulator of the primitive collectors. A is the array type.
+    private abstract static class PrimitiveAcc<L, A> {
+        final boolean allFailures;
+        Chunks<L> left;
+        int size;
+
+        PrimitiveAcc(boolean allFailures) {
+            this.allFailures = allFailures;
+        }
+
+        abstract A array();
+
+        abstract int capacity();
+
+        abstract void resize(int length);
+
+        final void addLeft(L value) {
+            if (left == null) {
+                left = new Chunks<>();
+            } else if (!allFailures) {
+                return;
+            }
+            left.add(value);
+        }
+
+        // Returns false if the RHS value is not needed.
+        final boolean reserveRight() {
+            if (left != null) {
+                return false;
+            }
+            if (size == capacity()) {
+                resize(Math.max(16, 2 * size));
+            }
+            return true;
+        }
+
+        final PrimitiveAcc<L, A> combine(PrimitiveAcc<L, A> other) {
+            if (left != null) {
+                if (allFailures && other.left != null) {
+                    left.addAll(other.left);
+                }
+                return this;
+            }
+            if (other.left != null || size == 0) {
+                return other;
+            }
+            if (other.size == 0) {
+                return this;
+            }
+            if (size + other.size > capacity()) {
+                resize(size + other.size);
+            }
+            System.arraycopy(other.array(), 0, array(), size, other.size);
+            size += other.size;
+            return this;
+        }
+
+        final Either<L, A> finishFirstFailure() {
+            return left != null
+                    ? Either.left(left.toList().get(0))
+                    : Either.right(toArray());
+        }
+
+        final Either<List<L>, A> finishAllFailures() {
+            return left != null
+                    ? Either.left(left.toList())
+                    : Either.right(toArray());
+        }
+
+        private A toArray() {
+            if (size != capacity()) {
+                resize(size);
+            }
+            return array();
+        }
+    }
+
+    private static final class IntAcc<L> extends PrimitiveAcc<L, int[]> {
+        private static final int[] EMPTY = new int[0];
+
+        int[] right = EMPTY;
+
+        IntAcc(boolean allFailures) {
+            super(allFailures);
+        }
+
+        void addRight(int value) {
+            if (reserveRight()) {
+                right[size++] = value;
+            }
+        }
+
+        @Override
+        int[] array() {
+            return right;
+        }
+
+        @Override
+        int capacity() {
+            return right.length;
+        }
+
+        @Override
+        void resize(int length) {
+            right = Arrays.copyOf(right, length);
+        }
+    }
+
+    private static final class LongAcc<L> extends PrimitiveAcc<L, long[]> {
+        private static final long[] EMPTY = new long[0];
+
+        long[] right = EMPTY;
+
+        LongAcc(boolean allFailures) {
+            super(allFailures);
+        }
+
+        void addRight(long value) {
+            if (reserveRight()) {
+                right[size++] = value;
+            }
+        }
+
+        @Override
+        long[] array() {
+            return right;
+        }
+
+        @Override
+        int capacity() {
+            return right.length;
+        }
+
+        @Override
+        void resize(int length) {
+            right = Arrays.copyOf(right, length);
+        }
+    }
+
+    private static final class DoubleAcc<L> extends PrimitiveAcc<L, double[]> {
+        private static final double[] EMPTY = new double[0];
+
+        double[] right = EMPTY;
+
+        DoubleAcc(boolean allFailures) {
+            super(allFailures);
+        }
+
+        void addRight(double value) {
+            if (reserveRight()) {
+                right[size++] = value;
+            }
+        }
+
+        @Override
+        double[] array() {
+            return right;
+        }
+
+        @Override
+        int capacity() {
+            return right.length;
+        }
+
+        @Override
+        void resize(int length) {
+            right = Arrays.copyOf(right, length);
+        }
+    }
+
+    private static final class PartitionAcc<AL, AR> {
+        AL left;
+        AR right;
+
+        PartitionAcc(AL left, AR right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /**
+     * Shared, lock-free container for a concurrent collector.
+     * Once a LHS value was seen, further RHS values are discarded.
+     */
+    private static final class ConcurrentAllFailuresAcc<L, R> {
+        final Queue<L> left = new ConcurrentLinkedQueue<>();
+        final Queue<R> right = new ConcurrentLinkedQueue<>();
+        volatile boolean failed;
+
+        void addLeft(L value) {
+            left.add(value);
+            if (!failed) {
+                failed = true;
+                right.clear();
+            }
+        }
+
+        void addRight(R value) {
+            if (failed) {
+                return;
+            }
+            right.add(value);
+        }
+
+        ConcurrentAllFailuresAcc<L, R> combine(ConcurrentAllFailuresAcc<L, R> other) {
+            other.left.forEach(this::addLeft);
+            other.right.forEach(this::addRight);
+            return this;
+        }
+
+        Either<List<L>, List<R>> finish() {
+            return left.isEmpty()
+                    ? Either.right(new ArrayList<>(right))
+                    : Either.left(new ArrayList<>(left));
         }
     }
 
@@ -0,0 +1,173 @@
+package io.jbock.util;
+
+/**
+ * Function interfaces with more than two arguments,
+ * for use with {@link Either#zip(Either, Either, Either, Functions.Function3) Either.zip}.
+ */
+public final class Functions {
+
+    /**
+     * A function that accepts three arguments.
+     *
+     * @param <A> the type of the first argument
+     * @param <B> the type of the second argument
+     * @param <C> the type of the third argument
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface Function3<A, B, C, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param a the first argument
+         * @param b the second argument
+         * @param c the third argument
+         * @return the function result
+         */
+        R apply(A a, B b, C c);
+    }
+
+    /**
+     * A function that accepts four arguments.
+     *
+     * @param <A> the type of the first argument
+     * @param <B> the type of the second argument
+     * @param <C> the type of the third argument
+     * @param <D> the type of the fourth argument
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface Function4<A, B, C, D, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param a the first argument
+         * @param b the second argument
+         * @param c the third argument
+         * @param d the fourth argument
+         * @return the function result
+         */
+        R apply(A a, B b, C c, D d);
+    }
+
+    /**
+     * A function that accepts five arguments.
+     *
+     * @param <A> the type of the first argument
+     * @param <B> the type of the second argument
+     * @param <C> the type of the third argument
+     * @param <D> the type of the fourth argument
+     * @param <E> the type of the fifth argument
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface Function5<A, B, C, D, E, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param a the first argument
+         * @param b the second argument
+         * @param c the third argument
+         * @param d the fourth argument
+         * @param e the fifth argument
+         * @return the function result
+         */
+        R apply(A a, B b, C c, D d, E e);
+    }
+
+    /**
+     * A function that accepts six arguments.
+     *
+     * @param <A> the type of the first argument
+     * @param <B> the type of the second argument
+     * @param <C> the type of the third argument
+     * @param <D> the type of the fourth argument
+     * @param <E> the type of the fifth argument
+     * @param <F> the type of the sixth argument
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface Function6<A, B, C, D, E, F, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param a the first argument
+         * @param b the second argument
+         * @param c the third argument
+         * @param d the fourth argument
+         * @param e the fifth argument
+         * @param f the sixth argument
+         * @return the function result
+         */
+        R apply(A a, B b, C c, D d, E e, F f);
+    }
+
+    /**
+     * A function that accepts seven arguments.
+     *
+     * @param <A> the type of the first argument
+     * @param <B> the type of the second argument
+     * @param <C> the type of the third argument
+     * @param <D> the type of the fourth argument
+     * @param <E> the type of the fifth argument
+     * @param <F> the type of the sixth argument
+     * @param <G> the type of the seventh argument
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface Function7<A, B, C, D, E, F, G, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param a the first argument
+         * @param b the second argument
+         * @param c the third argument
+         * @param d the fourth argument
+         * @param e the fifth argument
+         * @param f the sixth argument
+         * @param g the seventh argument
+         * @return the function result
+         */
+        R apply(A a, B b, C c, D d, E e, F f, G g);
+    }
+
+    /**
+     * A function that accepts eight arguments.
+     *
+     * @param <A> the type of the first argument
+     * @param <B> the type of the second argument
+     * @param <C> the type of the third argument
+     * @param <D> the type of the fourth argument
+     * @param <E> the type of the fifth argument
+     * @param <F> the type of the sixth argument
+     * @param <G> the type of the seventh argument
+     * @param <H> the type of the eighth argument
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    public interface Function8<A, B, C, D, E, F, G, H, R> {
+
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param a the first argument
+         * @param b the second argument
+         * @param c the third argument
+         * @param d the fourth argument
+         * @param e the fifth argument
+         * @param f the sixth argument
+         * @param g the seventh argument
+         * @param h the eighth argument
+         * @return the function result
+         */
+        R apply(A a, B b, C c, D d, E e, F f, G g, H h);
+    }
+
+    private Functions() {
+    }
+}
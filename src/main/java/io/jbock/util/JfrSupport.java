@@ -0,0 +1,36 @@
+package io.jbock.util;
+
+import java.util.Optional;
+
+/**
+ * Guards the use of {@link CollectorEvent}.
+ * The {@code jdk.jfr} module is an optional dependency,
+ * so the event class is only loaded if the module is present at runtime.
+ */
+final class JfrSupport {
+
+    static final boolean AVAILABLE = isAvailable();
+
+    private static boolean isAvailable() {
+        try {
+            Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+            if (jfr.isEmpty()) {
+                return false;
+            }
+            JfrSupport.class.getModule().addReads(jfr.get());
+            return true;
+        } catch (RuntimeException | LinkageError e) {
+            return false;
+        }
+    }
+
+    static void commit(String name, long elements, long lefts, boolean failed, long resultSize,
+                       long combines, long combineNanos, long totalNanos) {
+        if (AVAILABLE) {
+            CollectorEvent.commit(name, elements, lefts, failed, resultSize, combines, combineNanos, totalNanos);
+        }
+    }
+
+    private JfrSupport() {
+    }
+}
@@ -0,0 +1,250 @@
+package io.jbock.util;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A lazily evaluated pipeline of {@link Either} operations.
+ * The intermediate operations, like {@link #map(Function) map} and
+ * {@link #filter(Predicate, Function) filter}, are recorded and fused into
+ * a single function. This function is evaluated by one of the terminal operations
+ * {@link #toEither()}, {@link #fold(Function, Function) fold} or
+ * {@link #orElseThrow(Function) orElseThrow}.
+ * Intermediate RHS values are passed from one step to the next
+ * without wrapping them in a Right.
+ *
+ * <p>Instances of this class are immutable.
+ * Each terminal operation evaluates the pipeline again.
+ *
+ * @param <L> the type of the LHS value
+ * @param <R> the type of the RHS value
+ */
+public final class LazyEither<L, R> {
+
+    private final Supplier<? extends Either<?, ?>> source;
+
+    // accepts and returns either a RHS value or a Failure
+    private final Function<Object, Object> steps;
+
+    private LazyEither(
+            Supplier<? extends Either<?, ?>> source,
+            Function<Object, Object> steps) {
+        this.source = source;
+        this.steps = steps;
+    }
+
+    /**
+     * Returns a pipeline with the given {@code Either} as its source.
+     *
+     * @param either the source
+     * @param <L> the type of the LHS value
+     * @param <R> the type of the RHS value
+     * @return a pipeline without any operations
+     */
+    public static <L, R> LazyEither<L, R> of(Either<? extends L, ? extends R> either) {
+        requireNonNull(either);
+        return new LazyEither<>(() -> either, Function.identity());
+    }
+
+    /**
+     * Returns a pipeline with the given supplier as its source.
+     * The supplier is invoked once per evaluation of the pipeline.
+     *
+     * @param supplier the source
+     * @param <L> the type of the LHS value
+     * @param <R> the type of the RHS value
+     * @return a pipeline without any operations
+     */
+    public static <L, R> LazyEither<L, R> from(Supplier<? extends Either<? extends L, ? extends R>> supplier) {
+        return new LazyEither<>(requireNonNull(supplier), Function.identity());
+    }
+
+    /**
+     * Adds a {@link Either#map(Function) map} operation to this pipeline.
+     *
+     * @param mapper the function to apply to the RHS value, if it is a Right
+     * @param <R2> the new RHS type
+     * @return a new pipeline
+     */
+    public <R2> LazyEither<L, R2> map(Function<? super R, ? extends R2> mapper) {
+        return onRight(value -> requireNonNull(mapper.apply(value)));
+    }
+
+    /**
+     * Adds a {@link Either#flatMap(Function) flatMap} operation to this pipeline.
+     *
+     * @param mapper the function to apply to the RHS value, if it is a Right
+     * @param <R2> the new RHS type
+     * @return a new pipeline
+     */
+    public <R2> LazyEither<L, R2> flatMap(
+            Function<? super R, ? extends Either<? extends L, ? extends R2>> mapper) {
+        return onRight(value -> unwrap(mapper.apply(value)));
+    }
+
+    /**
+     * Adds a {@link Either#filter(Function) filter} operation to this pipeline.
+     *
+     * @param predicate a function that acts as a filter predicate
+     * @return a new pipeline
+     */
+    public LazyEither<L, R> filter(Function<? super R, Optional<? extends L>> predicate) {
+        return onRight(value -> {
+            Optional<? extends L> test = predicate.apply(value);
+            return test.isEmpty() ? value : new Failure(test.orElseThrow());
+        });
+    }
+
+    /**
+     * Adds a {@link Either#filter(Predicate, Function) filter} operation to this pipeline.
+     *
+     * @param predicate a predicate to apply to the RHS value
+     * @param leftMapper a function that produces a LHS value,
+     *                   if the predicate does not match
+     * @return a new pipeline
+     */
+    public LazyEither<L, R> filter(
+            Predicate<? super R> predicate,
+            Function<? super R, ? extends L> leftMapper) {
+        return onRight(value -> predicate.test(value)
+                ? value
+                : new Failure(requireNonNull(leftMapper.apply(value))));
+    }
+
+    /**
+     * Adds a {@link Either#mapLeft(Function) mapLeft} operation to this pipeline.
+     *
+     * @param mapper the function to apply to the LHS value, if it is a Left
+     * @param <L2> the new LHS type
+     * @return a new pipeline
+     */
+    public <L2> LazyEither<L2, R> mapLeft(Function<? super L, ? extends L2> mapper) {
+        return onLeft(value -> new Failure(requireNonNull(mapper.apply(value))));
+    }
+
+    /**
+     * Adds a {@link Either#flatMapLeft(Function) flatMapLeft} operation to this pipeline.
+     *
+     * @param mapper the function to apply to the LHS value, if it is a Left
+     * @param <L2> the new LHS type
+     * @return a new pipeline
+     */
+    public <L2> LazyEither<L2, R> flatMapLeft(
+            Function<? super L, ? extends Either<? extends L2, ? extends R>> mapper) {
+        return onLeft(value -> unwrap(mapper.apply(value)));
+    }
+
+    /**
+     * Evaluates this pipeline.
+     *
+     * @return the result of the pipeline
+     */
+    public Either<L, R> toEither() {
+        Object result = evaluate();
+        if (result instanceof Failure) {
+            @SuppressWarnings("unchecked")
+            L left = (L) ((Failure) result).value;
+            return Either.left(left);
+        }
+        @SuppressWarnings("unchecked")
+        R right = (R) result;
+        return Either.right(right);
+    }
+
+    /**
+     * Evaluates this pipeline, and applies either {@code leftMapper} or {@code rightMapper}
+     * to the result, without wrapping it in an {@code Either}.
+     *
+     * @param leftMapper the function to apply if the result is a Left
+     * @param rightMapper the function to apply if the result is a Right
+     * @param <U> the result type of both {@code leftMapper} and {@code rightMapper}
+     * @return the result of applying either {@code leftMapper} or {@code rightMapper}
+     * @see Either#fold(Function, Function)
+     */
+    public <U> U fold(
+            Function<? super L, ? extends U> leftMapper,
+            Function<? super R, ? extends U> rightMapper) {
+        Object result = evaluate();
+        if (result instanceof Failure) {
+            @SuppressWarnings("unchecked")
+            L left = (L) ((Failure) result).value;
+            return leftMapper.apply(left);
+        }
+        @SuppressWarnings("unchecked")
+        R right = (R) result;
+        return rightMapper.apply(right);
+    }
+
+    /**
+     * Evaluates this pipeline. If the result is a Right, returns the RHS value.
+     * Otherwise throws an exception produced by the exception supplying function.
+     *
+     * @param exceptionSupplier exception supplying function
+     * @param <X> type of the exception
+     * @return the RHS value, if the result is a Right
+     * @throws X the result of applying {@code exceptionSupplier} to the LHS value, if the result is a Left
+     * @see Either#orElseThrow(Function)
+     */
+    public <X extends Throwable> R orElseThrow(
+            Function<? super L, ? extends X> exceptionSupplier) throws X {
+        Object result = evaluate();
+        if (result instanceof Failure) {
+            @SuppressWarnings("unchecked")
+            L left = (L) ((Failure) result).value;
+            throw exceptionSupplier.apply(left);
+        }
+        @SuppressWarnings("unchecked")
+        R right = (R) result;
+        return right;
+    }
+
+    private Object evaluate() {
+        return steps.apply(unwrap(source.get()));
+    }
+
+    private <L2, R2> LazyEither<L2, R2> onRight(Function<? super R, Object> step) {
+        Function<Object, Object> previous = steps;
+        return new LazyEither<>(source, x -> {
+            Object value = previous.apply(x);
+            if (value instanceof Failure) {
+                return value;
+            }
+            @SuppressWarnings("unchecked")
+            R right = (R) value;
+            return step.apply(right);
+        });
+    }
+
+    private <L2, R2> LazyEither<L2, R2> onLeft(Function<? super L, Object> step) {
+        Function<Object, Object> previous = steps;
+        return new LazyEither<>(source, x -> {
+            Object value = previous.apply(x);
+            if (!(value instanceof Failure)) {
+                return value;
+            }
+            @SuppressWarnings("unchecked")
+            L left = (L) ((Failure) value).value;
+            return step.apply(left);
+        });
+    }
+
+    private static Object unwrap(Either<?, ?> either) {
+        return either.isLeft() ? new Failure(either.leftOrNull()) : either.rightOrNull();
+    }
+
+    /**
+     * Marks a LHS value inside the pipeline.
+     * This class is private, so RHS values can never be instances of it.
+     */
+    private static final class Failure {
+        final Object value;
+
+        Failure(Object value) {
+            this.value = value;
+        }
+    }
+}
@@ -3,16 +3,44 @@ package io.jbock.util;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * Internal implementation of a Left-Either.
+ * A Left-Either, which contains a LHS value.
+ * Instances are obtained from the static factory methods in {@link Either}.
+ *
+ * <p>On Java 17 and later, {@code Either} is a sealed class which permits
+ * only {@code Left} and {@code Right}, so these classes can be used in
+ * exhaustive pattern matching:
+ *
+ * <pre>{@code
+ * String message = switch (either) {
+ *     case Left<String, Integer> left -> "failure: " + left.value();
+ *     case Right<String, Integer> right -> "success: " + right.value();
+ * };
+ * }</pre>
  *
  * @param <L> the type of the LHS value
  * @param <R> the type of the RHS value
  */
-final class Left<L, R> extends Either<L, R> {
+public final class Left<L, R> extends Either<L, R> {
+
+    private static final ClassValue<Left<?, ?>[]> ENUM_LEFTS = new ClassValue<>() {
+        @Override
+        protected Left<?, ?>[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Left<?, ?>[] result = new Left<?, ?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                result[i] = new Left<>(constants[i]);
+            }
+            return result;
+        }
+    };
 
     private final L value;
 
@@ -20,6 +48,21 @@ final class Left<L, R> extends Either<L, R> {
         this.value = requireNonNull(value);
     }
 
+    static <E extends Enum<E>, R> Left<E, R> ofEnum(E constant) {
+        @SuppressWarnings("unchecked")
+        Left<E, R> result = (Left<E, R>) ENUM_LEFTS.get(constant.getDeclaringClass())[constant.ordinal()];
+        return result;
+    }
+
+    /**
+     * Returns the LHS value.
+     *
+     * @return the LHS value
+     */
+    public L value() {
+        return value;
+    }
+
     @Override
     public Optional<L> getLeft() {
         return Optional.of(value);
@@ -42,6 +85,21 @@ final class Left<L, R> extends Either<L, R> {
         return result;
     }
 
+    @Override
+    public IntEither<L> mapToInt(ToIntFunction<? super R> mapper) {
+        return IntEither.left(value);
+    }
+
+    @Override
+    public LongEither<L> mapToLong(ToLongFunction<? super R> mapper) {
+        return LongEither.left(value);
+    }
+
+    @Override
+    public DoubleEither<L> mapToDouble(ToDoubleFunction<? super R> mapper) {
+        return DoubleEither.left(value);
+    }
+
     @Override
     public <R2> Either<L, R2> flatMap(Function<? super R, ? extends Either<? extends L, ? extends R2>> mapper) {
         @SuppressWarnings("unchecked")
@@ -54,6 +112,11 @@ final class Left<L, R> extends Either<L, R> {
         return this;
     }
 
+    @Override
+    public Either<L, R> filter(Predicate<? super R> predicate, Function<? super R, ? extends L> leftMapper) {
+        return this;
+    }
+
     @Override
     public <L2> Either<L2, R> mapLeft(Function<? super L, ? extends L2> mapper) {
         return new Left<>(mapper.apply(value));
@@ -75,6 +138,14 @@ final class Left<L, R> extends Either<L, R> {
         return new Right<>(test.orElseThrow());
     }
 
+    @Override
+    public Either<L, R> filterLeft(Predicate<? super L> predicate, Function<? super L, ? extends R> rightMapper) {
+        if (predicate.test(value)) {
+            return this;
+        }
+        return new Right<>(rightMapper.apply(value));
+    }
+
     @Override
     public <U> U fold(
             Function<? super L, ? extends U> leftMapper,
@@ -82,6 +153,27 @@ final class Left<L, R> extends Either<L, R> {
         return leftMapper.apply(value);
     }
 
+    @Override
+    public int foldToInt(
+            ToIntFunction<? super L> leftMapper,
+            ToIntFunction<? super R> rightMapper) {
+        return leftMapper.applyAsInt(value);
+    }
+
+    @Override
+    public long foldToLong(
+            ToLongFunction<? super L> leftMapper,
+            ToLongFunction<? super R> rightMapper) {
+        return leftMapper.applyAsLong(value);
+    }
+
+    @Override
+    public boolean foldToBoolean(
+            Predicate<? super L> leftPredicate,
+            Predicate<? super R> rightPredicate) {
+        return leftPredicate.test(value);
+    }
+
     @Override
     public void ifLeftOrElse(Consumer<? super L> leftAction, Consumer<? super R> rightAction) {
         leftAction.accept(value);
@@ -92,6 +184,26 @@ final class Left<L, R> extends Either<L, R> {
         throw exceptionSupplier.apply(value);
     }
 
+    @Override
+    public L leftOrNull() {
+        return value;
+    }
+
+    @Override
+    public R rightOrNull() {
+        return null;
+    }
+
+    @Override
+    public L leftOrElse(L other) {
+        return value;
+    }
+
+    @Override
+    public R rightOrElse(R other) {
+        return other;
+    }
+
     @Override
     public String toString() {
         return String.format("Left[%s]", value);
@@ -0,0 +1,64 @@
+package io.jbock.util;
+
+/**
+ * An unchecked exception that carries the LHS value of a Left.
+ * It is intended for use with {@link Either#orElseThrow(java.util.function.Function)}:
+ *
+ * <pre>{@code
+ * Integer n = either.orElseThrow(LeftException::of);
+ * }</pre>
+ *
+ * <p>Instances created by {@link #of(Object)} do not capture a stack trace
+ * and do not record suppressed exceptions, so creating them is cheap,
+ * even on hot error paths.
+ * Use {@link #withStackTrace(Object)} when the stack trace is needed
+ * for debugging.
+ * The message is computed lazily from the LHS value.
+ */
+public final class LeftException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Object value;
+
+    private LeftException(Object value, boolean writableStackTrace) {
+        super(null, value instanceof Throwable ? (Throwable) value : null, writableStackTrace, writableStackTrace);
+        this.value = value;
+    }
+
+    /**
+     * Creates an exception without a stack trace.
+     * If the LHS value is a {@code Throwable}, it becomes the cause.
+     *
+     * @param value the LHS value
+     * @return a new exception
+     */
+    public static LeftException of(Object value) {
+        return new LeftException(value, false);
+    }
+
+    /**
+     * Creates an exception that captures the current stack trace.
+     * If the LHS value is a {@code Throwable}, it becomes the cause.
+     *
+     * @param value the LHS value
+     * @return a new exception
+     */
+    public static LeftException withStackTrace(Object value) {
+        return new LeftException(value, true);
+    }
+
+    /**
+     * Returns the LHS value. After deserialization, this is {@code null}.
+     *
+     * @return the LHS value
+     */
+    public Object value() {
+        return value;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.valueOf(value);
+    }
+}
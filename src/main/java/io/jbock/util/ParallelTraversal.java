@@ -0,0 +1,205 @@
+package io.jbock.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Internal implementation of the concurrent traversal methods in {@link Eithers}.
+ * Each input element is mapped in a separate task.
+ * When the traversal fails, tasks that have not started yet are skipped,
+ * and running tasks are interrupted.
+ * The calling thread waits until all tasks have finished.
+ * It waits through {@link ForkJoinPool#managedBlock}, so if it is
+ * a fork-join worker, its pool can start a spare thread in the meantime.
+ *
+ * @param <T> the type of the input elements
+ * @param <L> the LHS type of the {@code mapper} results
+ * @param <R> the RHS type of the {@code mapper} results
+ */
+final class ParallelTraversal<T, L, R> implements ForkJoinPool.ManagedBlocker {
+
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+    private static final int CANCELLED = 3;
+    private static final int INTERRUPTING = 4;
+    private static final int INTERRUPTED = 5;
+
+    private final Function<? super T, ? extends Either<? extends L, ? extends R>> mapper;
+    private final boolean stopAtFirstLeft;
+    private final List<Task> tasks;
+    private final Either<?, ?>[] results;
+    private final AtomicInteger remaining;
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    // the first Left, or an exception
+    private final AtomicReference<Object> failure = new AtomicReference<>();
+
+    private ParallelTraversal(
+            Collection<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper,
+            boolean stopAtFirstLeft) {
+        this.mapper = mapper;
+        this.stopAtFirstLeft = stopAtFirstLeft;
+        this.tasks = new ArrayList<>(input.size());
+        for (T element : input) {
+            tasks.add(new Task(tasks.size(), element));
+        }
+        this.results = new Either<?, ?>[tasks.size()];
+        this.remaining = new AtomicInteger(tasks.size());
+    }
+
+    static <T, L, R> Either<L, List<R>> firstFailure(
+            Collection<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper,
+            Executor executor) {
+        ParallelTraversal<T, L, R> traversal = new ParallelTraversal<>(input, mapper, true);
+        traversal.run(executor);
+        Object failure = traversal.failure.get();
+        if (failure != null) {
+            @SuppressWarnings("unchecked")
+            Either<L, List<R>> result = (Either<L, List<R>>) failure;
+            return result;
+        }
+        List<R> rights = new ArrayList<>(traversal.results.length);
+        for (Either<?, ?> either : traversal.results) {
+            @SuppressWarnings("unchecked")
+            R right = (R) either.rightOrNull();
+            rights.add(right);
+        }
+        return Either.right(rights);
+    }
+
+    static <T, L, R> Either<List<L>, List<R>> allFailures(
+            Collection<? extends T> input,
+            Function<? super T, ? extends Either<? extends L, ? extends R>> mapper,
+            Executor executor) {
+        ParallelTraversal<T, L, R> traversal = new ParallelTraversal<>(input, mapper, false);
+        traversal.run(executor);
+        @SuppressWarnings("unchecked")
+        List<Either<? extends L, ? extends R>> results = (List<Either<? extends L, ? extends R>>) (List<?>) Arrays.asList(traversal.results);
+        return results.stream().collect(Eithers.allFailures());
+    }
+
+    private void run(Executor executor) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        for (Task task : tasks) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.state.set(CANCELLED);
+                fail(e);
+                task.finish();
+            }
+        }
+        try {
+            ForkJoinPool.managedBlock(this);
+        } catch (InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+            CancellationException x = new CancellationException("interrupted");
+            x.initCause(e);
+            throw x;
+        }
+        Object failure = this.failure.get();
+        if (failure instanceof Throwable) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new CompletionException((Throwable) failure);
+        }
+    }
+
+    @Override
+    public boolean block() throws InterruptedException {
+        done.await();
+        return true;
+    }
+
+    @Override
+    public boolean isReleasable() {
+        return done.getCount() == 0;
+    }
+
+    private void fail(Object reason) {
+        if (failure.compareAndSet(null, reason)) {
+            cancel();
+        }
+    }
+
+    private void cancel() {
+        for (Task task : tasks) {
+            if (task.state.compareAndSet(NEW, CANCELLED)) {
+                continue;
+            }
+            Thread runner = task.runner;
+            if (task.state.compareAndSet(RUNNING, INTERRUPTING)) {
+                runner.interrupt();
+                task.state.set(INTERRUPTED);
+            }
+        }
+    }
+
+    private final class Task implements Runnable {
+        final AtomicInteger state = new AtomicInteger(NEW);
+        final int index;
+        final T element;
+        volatile Thread runner;
+
+        Task(int index, T element) {
+            this.index = index;
+            this.element = element;
+        }
+
+        @Override
+        public void run() {
+            runner = Thread.currentThread();
+            if (!state.compareAndSet(NEW, RUNNING)) {
+                runner = null;
+                finish();
+                return;
+            }
+            try {
+                Either<? extends L, ? extends R> result = mapper.apply(element);
+                results[index] = result;
+                if (stopAtFirstLeft && result.isLeft()) {
+                    fail(result);
+                }
+            } catch (Throwable t) {
+                fail(t);
+            } finally {
+                if (!state.compareAndSet(RUNNING, DONE)) {
+                    // wait for the interrupt, then clear it
+                    while (state.get() == INTERRUPTING) {
+                        Thread.onSpinWait();
+                    }
+                    Thread.interrupted();
+                }
+                runner = null;
+                finish();
+            }
+        }
+
+        void finish() {
+            if (remaining.decrementAndGet() == 0) {
+                done.countDown();
+            }
+        }
+    }
+}
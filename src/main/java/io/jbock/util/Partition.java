@@ -0,0 +1,65 @@
+package io.jbock.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The result of splitting a stream of {@link Either} into
+ * the LHS values and the RHS values.
+ *
+ * @see Eithers#partition()
+ * @see Eithers#partitioning(java.util.stream.Collector, java.util.stream.Collector)
+ * @param <A> the type of the collected LHS values
+ * @param <B> the type of the collected RHS values
+ */
+public final class Partition<A, B> {
+
+    private final A lefts;
+    private final B rights;
+
+    Partition(A lefts, B rights) {
+        this.lefts = requireNonNull(lefts);
+        this.rights = requireNonNull(rights);
+    }
+
+    /**
+     * Returns the collected LHS values.
+     *
+     * @return the collected LHS values
+     */
+    public A lefts() {
+        return lefts;
+    }
+
+    /**
+     * Returns the collected RHS values.
+     *
+     * @return the collected RHS values
+     */
+    public B rights() {
+        return rights;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Partition[lefts=%s, rights=%s]", lefts, rights);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof Partition)) {
+            return false;
+        }
+
+        Partition<?, ?> other = (Partition<?, ?>) obj;
+        return lefts.equals(other.lefts) && rights.equals(other.rights);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * lefts.hashCode() + rights.hashCode();
+    }
+}
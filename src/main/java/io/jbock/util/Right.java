@@ -1,18 +1,39 @@
 package io.jbock.util;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * Internal implementation of a Right-Either.
+ * A Right-Either, which contains a RHS value.
+ * Instances are obtained from the static factory methods in {@link Either}.
+ *
+ * <p>On Java 17 and later, {@code Either} is a sealed class which permits
+ * only {@code Left} and {@code Right}, so these classes can be used in
+ * exhaustive pattern matching:
+ *
+ * <pre>{@code
+ * String message = switch (either) {
+ *     case Left<String, Integer> left -> "failure: " + left.value();
+ *     case Right<String, Integer> right -> "success: " + right.value();
+ * };
+ * }</pre>
  *
  * @param <L> the type of the LHS value
  * @param <R> the type of the RHS value
  */
-final class Right<L, R> extends Either<L, R> {
+public final class Right<L, R> extends Either<L, R> {
+
+    private static final Right<?, Boolean> TRUE = new Right<>(true);
+    private static final Right<?, Boolean> FALSE = new Right<>(false);
+    private static final Right<?, List<?>> EMPTY_LIST = new Right<>(List.of());
 
     private final R value;
 
@@ -20,6 +41,33 @@ final class Right<L, R> extends Either<L, R> {
         this.value = requireNonNull(value);
     }
 
+    static <L> Right<L, Boolean> ofTrue() {
+        @SuppressWarnings("unchecked")
+        Right<L, Boolean> result = (Right<L, Boolean>) TRUE;
+        return result;
+    }
+
+    static <L> Right<L, Boolean> ofFalse() {
+        @SuppressWarnings("unchecked")
+        Right<L, Boolean> result = (Right<L, Boolean>) FALSE;
+        return result;
+    }
+
+    static <L, R> Right<L, List<R>> ofEmptyList() {
+        @SuppressWarnings("unchecked")
+        Right<L, List<R>> result = (Right<L, List<R>>) (Right<?, ?>) EMPTY_LIST;
+        return result;
+    }
+
+    /**
+     * Returns the RHS value.
+     *
+     * @return the RHS value
+     */
+    public R value() {
+        return value;
+    }
+
     @Override
     public Optional<L> getLeft() {
         return Optional.empty();
@@ -40,6 +88,21 @@ final class Right<L, R> extends Either<L, R> {
         return new Right<>(mapper.apply(value));
     }
 
+    @Override
+    public IntEither<L> mapToInt(ToIntFunction<? super R> mapper) {
+        return IntEither.right(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public LongEither<L> mapToLong(ToLongFunction<? super R> mapper) {
+        return LongEither.right(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public DoubleEither<L> mapToDouble(ToDoubleFunction<? super R> mapper) {
+        return DoubleEither.right(mapper.applyAsDouble(value));
+    }
+
     @Override
     public <R2> Either<L, R2> flatMap(Function<? super R, ? extends Either<? extends L, ? extends R2>> mapper) {
         @SuppressWarnings("unchecked")
@@ -56,6 +119,14 @@ final class Right<L, R> extends Either<L, R> {
         return new Left<>(test.orElseThrow());
     }
 
+    @Override
+    public Either<L, R> filter(Predicate<? super R> predicate, Function<? super R, ? extends L> leftMapper) {
+        if (predicate.test(value)) {
+            return this;
+        }
+        return new Left<>(leftMapper.apply(value));
+    }
+
     @Override
     public <L2> Either<L2, R> mapLeft(Function<? super L, ? extends L2> mapper) {
         @SuppressWarnings("unchecked")
@@ -75,6 +146,11 @@ final class Right<L, R> extends Either<L, R> {
         return this;
     }
 
+    @Override
+    public Either<L, R> filterLeft(Predicate<? super L> predicate, Function<? super L, ? extends R> rightMapper) {
+        return this;
+    }
+
     @Override
     public <U> U fold(
             Function<? super L, ? extends U> leftMapper,
@@ -82,6 +158,27 @@ final class Right<L, R> extends Either<L, R> {
         return rightMapper.apply(value);
     }
 
+    @Override
+    public int foldToInt(
+            ToIntFunction<? super L> leftMapper,
+            ToIntFunction<? super R> rightMapper) {
+        return rightMapper.applyAsInt(value);
+    }
+
+    @Override
+    public long foldToLong(
+            ToLongFunction<? super L> leftMapper,
+            ToLongFunction<? super R> rightMapper) {
+        return rightMapper.applyAsLong(value);
+    }
+
+    @Override
+    public boolean foldToBoolean(
+            Predicate<? super L> leftPredicate,
+            Predicate<? super R> rightPredicate) {
+        return rightPredicate.test(value);
+    }
+
     @Override
     public void ifLeftOrElse(Consumer<? super L> leftAction, Consumer<? super R> rightAction) {
         rightAction.accept(value);
@@ -92,6 +189,26 @@ final class Right<L, R> extends Either<L, R> {
         return value;
     }
 
+    @Override
+    public L leftOrNull() {
+        return null;
+    }
+
+    @Override
+    public R rightOrNull() {
+        return value;
+    }
+
+    @Override
+    public L leftOrElse(L other) {
+        return other;
+    }
+
+    @Override
+    public R rightOrElse(R other) {
+        return value;
+    }
+
     @Override
     public String toString() {
         return String.format("Right[%s]", value);
@@ -0,0 +1,111 @@
+package io.jbock.util;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Internal spliterator over the LHS values or the RHS values
+ * of a source spliterator of {@link Either}.
+ * Splitting is delegated to the source, so a parallel stream
+ * splits exactly like the source stream.
+ *
+ * @param <L> the LHS type of the source elements
+ * @param <R> the RHS type of the source elements
+ * @param <T> the type of the elements of this spliterator,
+ *            either {@code L} or {@code R}
+ */
+final class SideSpliterator<L, R, T> implements Spliterator<T>, Consumer<Either<? extends L, ? extends R>> {
+
+    private static final int DROPPED_CHARACTERISTICS = SIZED | SUBSIZED | SORTED;
+
+    private final Spliterator<? extends Either<? extends L, ? extends R>> source;
+    private final boolean lefts;
+    private final Consumer<? super L> leftAction; // nullable
+
+    // the current downstream action
+    private Consumer<? super T> action;
+    private boolean found;
+
+    private SideSpliterator(
+            Spliterator<? extends Either<? extends L, ? extends R>> source,
+            boolean lefts,
+            Consumer<? super L> leftAction) {
+        this.source = source;
+        this.lefts = lefts;
+        this.leftAction = leftAction;
+    }
+
+    static <L, R> SideSpliterator<L, R, L> lefts(
+            Spliterator<? extends Either<? extends L, ? extends R>> source) {
+        return new SideSpliterator<>(source, true, null);
+    }
+
+    static <L, R> SideSpliterator<L, R, R> rights(
+            Spliterator<? extends Either<? extends L, ? extends R>> source,
+            Consumer<? super L> leftAction) {
+        return new SideSpliterator<>(source, false, leftAction);
+    }
+
+    @Override
+    public void accept(Either<? extends L, ? extends R> either) {
+        if (either.isLeft()) {
+            if (lefts) {
+                emit(either.leftOrNull());
+            } else if (leftAction != null) {
+                leftAction.accept(either.leftOrNull());
+            }
+        } else if (!lefts) {
+            emit(either.rightOrNull());
+        }
+    }
+
+    private void emit(Object value) {
+        @SuppressWarnings("unchecked")
+        T t = (T) value;
+        action.accept(t);
+        found = true;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        this.action = action;
+        found = false;
+        try {
+            while (!found && source.tryAdvance(this)) {
+                // skip elements of the other side
+            }
+        } finally {
+            this.action = null;
+        }
+        return found;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        this.action = action;
+        try {
+            source.forEachRemaining(this);
+        } finally {
+            this.action = null;
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        Spliterator<? extends Either<? extends L, ? extends R>> prefix = source.trySplit();
+        if (prefix == null) {
+            return null;
+        }
+        return new SideSpliterator<>(prefix, lefts, leftAction);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return (source.characteristics() & ~DROPPED_CHARACTERISTICS) | NONNULL;
+    }
+}
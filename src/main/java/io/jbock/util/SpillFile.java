@@ -0,0 +1,145 @@
+package io.jbock.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Internal append-only temp file of encoded values.
+ * The file is written and read through memory-mapped segments.
+ * A value never spans two segments.
+ * The file is deleted when it is closed, or earlier on platforms
+ * that can unlink open files.
+ *
+ * @param <T> the type of the values
+ */
+final class SpillFile<T> implements Closeable {
+
+    static final int DEFAULT_SEGMENT_SIZE = 1 << 23;
+
+    private final FileChannel channel;
+    private final ValueCodec<T> codec;
+    private final int segmentSize;
+    private final List<Segment> segments = new ArrayList<>();
+
+    private MappedByteBuffer current;
+    private long currentOffset;
+    private int currentCount;
+    private long end;
+    private long count;
+
+    private SpillFile(FileChannel channel, ValueCodec<T> codec, int segmentSize) {
+        this.channel = channel;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+    }
+
+    static <T> SpillFile<T> create(Path directory, ValueCodec<T> codec, int segmentSize) {
+        try {
+            Path path = Files.createTempFile(directory, "either-spill-", ".bin");
+            return new SpillFile<>(FileChannel.open(path, READ, WRITE, DELETE_ON_CLOSE), codec, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void write(T value) {
+        int size = codec.encodedSize(value);
+        if (current == null || current.remaining() < size) {
+            finishSegment();
+            int length = Math.max(segmentSize, size);
+            try {
+                current = channel.map(FileChannel.MapMode.READ_WRITE, end, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            currentOffset = end;
+            end += length;
+        }
+        codec.write(value, current);
+        currentCount++;
+        count++;
+    }
+
+    // Must be invoked after the last write.
+    void finishSegment() {
+        if (current == null) {
+            return;
+        }
+        segments.add(new Segment(currentOffset, current.position(), currentCount));
+        current = null;
+        currentCount = 0;
+    }
+
+    long count() {
+        return count;
+    }
+
+    Iterator<T> iterator() {
+        return new Iterator<>() {
+            int segment = -1;
+            int remaining;
+            MappedByteBuffer buffer;
+
+            @Override
+            public boolean hasNext() {
+                while (remaining == 0) {
+                    if (segment + 1 >= segments.size()) {
+                        return false;
+                    }
+                    Segment s = segments.get(++segment);
+                    try {
+                        buffer = channel.map(FileChannel.MapMode.READ_ONLY, s.offset, s.length);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    remaining = s.count;
+                }
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                remaining--;
+                return codec.read(buffer);
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        current = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Segment {
+        final long offset;
+        final int length;
+        final int count;
+
+        Segment(long offset, int length, int count) {
+            this.offset = offset;
+            this.length = length;
+            this.count = count;
+        }
+    }
+}
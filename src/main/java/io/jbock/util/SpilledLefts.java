@@ -0,0 +1,167 @@
+package io.jbock.util;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The LHS values collected by {@link Eithers#allFailuresSpilling(ValueCodec, int)}.
+ * Some of the values may be stored in temporary files.
+ * They are decoded lazily, one at a time, during iteration,
+ * so iterating does not require more heap than the
+ * in-memory part of the values.
+ *
+ * <p>The temporary files are deleted by {@link #close()}.
+ * After closing, iteration throws an {@code IllegalStateException},
+ * also in iterators that were obtained before.
+ * This class is not thread-safe, but several iterators can be used
+ * concurrently, as long as this instance is not closed.
+ *
+ * @param <L> the LHS type
+ */
+public final class SpilledLefts<L> implements Iterable<L>, AutoCloseable {
+
+    // each part is either a List<L> or a SpillFile<L>
+    private final List<Object> parts;
+    private final long size;
+    private boolean closed;
+
+    SpilledLefts(List<Object> parts, long size) {
+        this.parts = parts;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of LHS values.
+     *
+     * @return the number of LHS values
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if some of the values are stored in temporary files.
+     *
+     * @return {@code true} if values were spilled to disk
+     */
+    public boolean isSpilled() {
+        for (Object part : parts) {
+            if (part instanceof SpillFile) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long inMemorySize() {
+        long result = 0;
+        for (Object part : parts) {
+            if (part instanceof List) {
+                result += ((List<?>) part).size();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns an iterator over the LHS values, in encounter order.
+     *
+     * @return an iterator
+     * @throws IllegalStateException if this instance is closed
+     */
+    @Override
+    public Iterator<L> iterator() {
+        checkOpen();
+        return new Iterator<>() {
+            int part;
+            Iterator<L> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                checkOpen();
+                while (!current.hasNext()) {
+                    if (part == parts.size()) {
+                        return false;
+                    }
+                    current = iterator(parts.get(part++));
+                }
+                return true;
+            }
+
+            @Override
+            public L next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential stream of the LHS values, in encounter order.
+     * Closing the stream does not close this instance.
+     *
+     * @return a stream
+     * @throws IllegalStateException if this instance is closed
+     */
+    public Stream<L> stream() {
+        Spliterator<L> spliterator = Spliterators.spliterator(iterator(), size,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Deletes the temporary files.
+     * Invoking this method more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        RuntimeException failure = null;
+        for (Object part : parts) {
+            if (part instanceof SpillFile) {
+                try {
+                    ((SpillFile<?>) part).close();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SpilledLefts[size=" + size + ", spilled=" + isSpilled() + "]";
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("closed");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <L> Iterator<L> iterator(Object part) {
+        if (part instanceof SpillFile) {
+            return ((SpillFile<L>) part).iterator();
+        }
+        return ((List<L>) part).iterator();
+    }
+}
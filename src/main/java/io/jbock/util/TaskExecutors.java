@@ -0,0 +1,33 @@
+package io.jbock.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Internal provider of the default executor for concurrent traversals.
+ * The tasks may block, so they do not run in the common pool.
+ * They run in a dedicated pool of daemon threads instead,
+ * which is created on first use.
+ * On Java 21 and later, this class is replaced by a version
+ * which uses virtual threads.
+ */
+final class TaskExecutors {
+
+    // Maximum number of concurrently running tasks.
+    // ForkJoinPool may add spare threads while a worker waits in managedBlock,
+    // for example in a nested traversal.
+    static final int PARALLELISM = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
+    private static final class Holder {
+        static final ForkJoinPool POOL = new ForkJoinPool(
+                PARALLELISM, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+    }
+
+    static <V> V withDefaultExecutor(Function<Executor, V> action) {
+        return action.apply(Holder.POOL);
+    }
+
+    private TaskExecutors() {
+    }
+}
@@ -0,0 +1,21 @@
+package io.jbock.util;
+
+/**
+ * A function that may throw a checked exception.
+ *
+ * @see Either#catching(ThrowingFunction)
+ * @param <T> the type of the input
+ * @param <R> the type of the result
+ */
+@FunctionalInterface
+public interface ThrowingFunction<T, R> {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param t the function argument
+     * @return the function result
+     * @throws Exception if the result cannot be computed
+     */
+    R apply(T t) throws Exception;
+}
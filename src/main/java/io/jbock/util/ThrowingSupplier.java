@@ -0,0 +1,19 @@
+package io.jbock.util;
+
+/**
+ * A supplier that may throw a checked exception.
+ *
+ * @see Either#catching(ThrowingSupplier)
+ * @param <T> the type of the result
+ */
+@FunctionalInterface
+public interface ThrowingSupplier<T> {
+
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     * @throws Exception if the result cannot be computed
+     */
+    T get() throws Exception;
+}
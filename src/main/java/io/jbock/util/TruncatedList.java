@@ -0,0 +1,66 @@
+package io.jbock.util;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An unmodifiable list which holds at most a fixed number of elements,
+ * and counts the elements that were omitted because this number was exceeded.
+ * If the producer stopped early, the number of omitted elements is unknown,
+ * and {@link #omitted()} returns {@link #UNKNOWN}.
+ *
+ * <p>Like any other {@code List}, two instances are equal if they contain
+ * the same elements in the same order. The number of omitted elements
+ * is not taken into account.
+ *
+ * @see Eithers#allFailures(int)
+ * @param <E> the type of the elements
+ */
+public final class TruncatedList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * The value of {@link #omitted()} if elements were omitted,
+     * but their number is unknown.
+     */
+    public static final long UNKNOWN = -1;
+
+    private final List<E> elements;
+    private final long omitted;
+
+    TruncatedList(List<E> elements, long omitted) {
+        this.elements = elements;
+        this.omitted = omitted;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns the number of elements that were omitted from this list,
+     * or {@link #UNKNOWN} if at least one element was omitted,
+     * but the exact number is unknown.
+     *
+     * @return the number of omitted elements, or {@code UNKNOWN}
+     */
+    public long omitted() {
+        return omitted;
+    }
+
+    /**
+     * Returns {@code true} if any elements were omitted from this list.
+     * This is also the case if the number of omitted elements is unknown.
+     *
+     * @return {@code true} if {@link #omitted()} is not zero, otherwise {@code false}
+     */
+    public boolean isTruncated() {
+        return omitted != 0;
+    }
+}
@@ -0,0 +1,95 @@
+package io.jbock.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary encoding of values, used by {@link EitherCodec}.
+ * Implementations must be able to read back what they wrote,
+ * both from a {@code ByteBuffer} and from a {@code DataInput}.
+ * The encoding must be self-delimiting, so that several values
+ * can be written one after the other.
+ *
+ * <p>The methods that use a {@code ByteBuffer} read or write at the
+ * buffer's current position, and advance the position.
+ *
+ * @param <T> the type of the values
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * Returns the number of bytes that {@code write} will produce for the given value.
+     *
+     * @param value a value
+     * @return the encoded size in bytes
+     */
+    int encodedSize(T value);
+
+    /**
+     * Writes the given value into the buffer.
+     *
+     * @param value a value
+     * @param buffer the target buffer
+     * @throws java.nio.BufferOverflowException if the buffer does not have enough space
+     */
+    void write(T value, ByteBuffer buffer);
+
+    /**
+     * Reads a value from the buffer.
+     *
+     * @param buffer the source buffer
+     * @return the value
+     * @throws java.nio.BufferUnderflowException if the buffer does not contain enough bytes
+     */
+    T read(ByteBuffer buffer);
+
+    /**
+     * Writes the given value to the output.
+     *
+     * @param value a value
+     * @param out the target
+     * @throws IOException if an I/O error occurs
+     */
+    void write(T value, DataOutput out) throws IOException;
+
+    /**
+     * Reads a value from the input.
+     *
+     * @param in the source
+     * @return the value
+     * @throws IOException if an I/O error occurs
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Returns a codec that writes an {@code Integer} as four bytes.
+     *
+     * @return a codec for {@code Integer}
+     */
+    static ValueCodec<Integer> ofInt() {
+        return ValueCodecs.IntCodec.INSTANCE;
+    }
+
+    /**
+     * Returns a codec that writes a {@code Long} as eight bytes.
+     *
+     * @return a codec for {@code Long}
+     */
+    static ValueCodec<Long> ofLong() {
+        return ValueCodecs.LongCodec.INSTANCE;
+    }
+
+    /**
+     * Returns a codec that writes a {@code String} as UTF-8,
+     * prefixed with the number of bytes.
+     * When reading from a heap buffer, the string is decoded directly
+     * from the backing array.
+     *
+     * @return a codec for {@code String}
+     */
+    static ValueCodec<String> ofString() {
+        return ValueCodecs.StringCodec.INSTANCE;
+    }
+}
@@ -0,0 +1,157 @@
+package io.jbock.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Internal implementations of the built-in {@link ValueCodec} instances.
+ */
+final class ValueCodecs {
+
+    enum IntCodec implements ValueCodec<Integer> {
+        INSTANCE;
+
+        @Override
+        public int encodedSize(Integer value) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+
+        @Override
+        public void write(Integer value, DataOutput out) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    }
+
+    enum LongCodec implements ValueCodec<Long> {
+        INSTANCE;
+
+        @Override
+        public int encodedSize(Long value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+
+        @Override
+        public void write(Long value, DataOutput out) throws IOException {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    }
+
+    enum StringCodec implements ValueCodec<String> {
+        INSTANCE;
+
+        private static final int INITIAL_CAPACITY = 8192;
+
+        @Override
+        public int encodedSize(String value) {
+            return Integer.BYTES + utf8Length(value);
+        }
+
+        @Override
+        public void write(String value, ByteBuffer buffer) {
+            byte[] bytes = value.getBytes(UTF_8);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+
+        @Override
+        public String read(ByteBuffer buffer) {
+            int length = buffer.getInt();
+            if (length < 0) {
+                throw new IllegalArgumentException("Invalid string length: " + length);
+            }
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            if (buffer.hasArray()) {
+                int offset = buffer.arrayOffset() + buffer.position();
+                buffer.position(buffer.position() + length);
+                return new String(buffer.array(), offset, length, UTF_8);
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, UTF_8);
+        }
+
+        @Override
+        public void write(String value, DataOutput out) throws IOException {
+            byte[] bytes = value.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            int length = in.readInt();
+            if (length < 0) {
+                throw new IOException("Invalid string length: " + length);
+            }
+            // the length is not trusted: the array grows while the input is read
+            byte[] bytes = new byte[Math.min(length, INITIAL_CAPACITY)];
+            in.readFully(bytes);
+            for (int n = bytes.length; n < length; n = bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * n));
+                in.readFully(bytes, n, bytes.length - n);
+            }
+            return new String(bytes, UTF_8);
+        }
+
+        private static int utf8Length(String s) {
+            int n = s.length();
+            int result = n;
+            for (int i = 0; i < n; i++) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    continue;
+                }
+                if (c < 0x800) {
+                    result += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    result += 2; // 4 bytes for 2 chars
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    result += 2;
+                } // an unpaired surrogate is encoded as '?'
+            }
+            return result;
+        }
+    }
+
+    private ValueCodecs() {
+    }
+}
@@ -3,5 +3,7 @@
  */
 module io.jbock.util {
 
+    requires static jdk.jfr;
+
     exports io.jbock.util;
 }
@@ -0,0 +1,23 @@
+package io.jbock.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Internal provider of the default executor for concurrent traversals.
+ * Each traversal runs in a fresh virtual-thread-per-task executor,
+ * which is closed before the traversal returns.
+ */
+final class TaskExecutors {
+
+    static <V> V withDefaultExecutor(Function<Executor, V> action) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return action.apply(executor);
+        }
+    }
+
+    private TaskExecutors() {
+    }
+}
@@ -0,0 +1,45 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.jbock.util.Either.left;
+import static io.jbock.util.Either.right;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AllFailuresUnorderedTest {
+
+    @Test
+    void testCharacteristics() {
+        Set<Collector.Characteristics> characteristics = Eithers.allFailuresUnordered().characteristics();
+        assertTrue(characteristics.contains(Collector.Characteristics.CONCURRENT));
+        assertTrue(characteristics.contains(Collector.Characteristics.UNORDERED));
+    }
+
+    @Test
+    void testRight() {
+        assertEquals(right(List.of()), List.<Either<String, Integer>>of().stream().collect(Eithers.allFailuresUnordered()));
+        Either<List<String>, List<Integer>> result = IntStream.range(0, 10_000).parallel()
+                .mapToObj(Either::<String, Integer>right)
+                .collect(Eithers.allFailuresUnordered());
+        assertEquals(IntStream.range(0, 10_000).boxed().collect(Collectors.toSet()),
+                Set.copyOf(result.getRight().orElseThrow()));
+    }
+
+    @Test
+    void testLeft() {
+        Either<List<String>, List<Integer>> result = IntStream.range(0, 10_000).parallel()
+                .mapToObj(i -> i % 1000 == 0 ? Either.<String, Integer>left("" + i) : Either.<String, Integer>right(i))
+                .collect(Eithers.allFailuresUnordered());
+        assertEquals(Set.of("0", "1000", "2000", "3000", "4000", "5000", "6000", "7000", "8000", "9000"),
+                Set.copyOf(result.getLeft().orElseThrow()));
+        assertEquals(left(List.of("1")), List.<Either<String, Integer>>of(right(0), left("1"), right(2))
+                .stream().collect(Eithers.allFailuresUnordered()));
+    }
+}
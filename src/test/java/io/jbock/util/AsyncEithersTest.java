@@ -0,0 +1,112 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncEithersTest {
+
+    @Test
+    void testThenMap() {
+        assertEquals(Either.right(2), AsyncEithers.thenMap(
+                CompletableFuture.completedFuture(Either.<String, Integer>right(1)), n -> n + 1).join());
+        assertEquals(Either.left("1"), AsyncEithers.thenMap(
+                CompletableFuture.completedFuture(Either.<String, Integer>left("1")), n -> n + 1).join());
+    }
+
+    @Test
+    void testThenFlatMap() {
+        assertEquals(Either.right(2), AsyncEithers.thenFlatMap(
+                CompletableFuture.completedFuture(Either.<String, Integer>right(1)),
+                n -> CompletableFuture.completedFuture(Either.<String, Integer>right(n + 1))).join());
+        assertEquals(Either.left("1"), AsyncEithers.thenFlatMap(
+                CompletableFuture.completedFuture(Either.<String, Integer>left("1")),
+                n -> CompletableFuture.completedFuture(Either.<String, Integer>right(n + 1))).join());
+    }
+
+    @Test
+    void testFirstFailureRight() {
+        CompletableFuture<Either<String, Integer>> f1 = new CompletableFuture<>();
+        CompletableFuture<Either<String, Integer>> f2 = new CompletableFuture<>();
+        CompletableFuture<Either<String, List<Integer>>> result = AsyncEithers.firstFailure(List.of(f1, f2));
+        f2.complete(Either.right(2));
+        assertFalse(result.isDone());
+        f1.complete(Either.right(1));
+        assertEquals(Either.right(List.of(1, 2)), result.join());
+        List<Integer> rights = result.join().getRight().orElseThrow();
+        assertThrows(UnsupportedOperationException.class, () -> rights.set(0, 5));
+        assertEquals(Either.right(List.of()), AsyncEithers.<String, Integer>firstFailure(List.of()).join());
+    }
+
+    @Test
+    void testFirstFailureCancelsOthers() {
+        CompletableFuture<Either<String, Integer>> f1 = new CompletableFuture<>();
+        CompletableFuture<Either<String, Integer>> f2 = new CompletableFuture<>();
+        CompletableFuture<Either<String, List<Integer>>> result = AsyncEithers.firstFailure(List.of(f1, f2));
+        f2.complete(Either.left("2"));
+        assertEquals(Either.left("2"), result.join());
+        assertTrue(f1.isCancelled());
+    }
+
+    @Test
+    void testFirstFailureException() {
+        CompletableFuture<Either<String, Integer>> f1 = new CompletableFuture<>();
+        CompletableFuture<Either<String, Integer>> f2 = new CompletableFuture<>();
+        CompletableFuture<Either<String, List<Integer>>> result = AsyncEithers.firstFailure(List.of(f1, f2));
+        f1.completeExceptionally(new IllegalStateException());
+        assertThrows(CompletionException.class, result::join);
+        assertTrue(f2.isCancelled());
+    }
+
+    @Test
+    void testFirstFailureNull() {
+        CompletableFuture<Either<String, Integer>> f1 = new CompletableFuture<>();
+        CompletableFuture<Either<String, Integer>> f2 = new CompletableFuture<>();
+        CompletableFuture<Either<String, List<Integer>>> result = AsyncEithers.firstFailure(List.of(f1, f2));
+        f1.complete(null);
+        CompletionException e = assertThrows(CompletionException.class, result::join);
+        assertTrue(e.getCause() instanceof NullPointerException);
+        assertTrue(f2.isCancelled());
+    }
+
+    @Test
+    void testAllFailures() {
+        assertEquals(Either.left(List.of("1", "3")), AsyncEithers.allFailures(List.of(
+                CompletableFuture.completedFuture(Either.<String, Integer>left("1")),
+                CompletableFuture.completedFuture(Either.<String, Integer>right(2)),
+                CompletableFuture.completedFuture(Either.<String, Integer>left("3")))).join());
+        assertEquals(Either.right(List.of(1, 2)), AsyncEithers.allFailures(List.of(
+                CompletableFuture.completedFuture(Either.<String, Integer>right(1)),
+                CompletableFuture.completedFuture(Either.<String, Integer>right(2)))).join());
+    }
+
+    @Test
+    void testWithTimeout() {
+        CompletableFuture<Either<String, Integer>> never = new CompletableFuture<>();
+        assertEquals(Either.left("timeout"), AsyncEithers.withTimeout(never, Duration.ofMillis(10), () -> "timeout").join());
+        // the timer thread cancels the input after completing the result
+        assertThrows(CancellationException.class, never::join);
+        assertEquals(Either.right(1), AsyncEithers.withTimeout(
+                CompletableFuture.completedFuture(Either.<String, Integer>right(1)), Duration.ofSeconds(10), () -> "timeout").join());
+    }
+
+    @Test
+    void testWithTimeoutSupplierThrows() {
+        CompletableFuture<Either<String, Integer>> never = new CompletableFuture<>();
+        CompletableFuture<Either<String, Integer>> result = AsyncEithers.withTimeout(never, Duration.ofMillis(10), () -> {
+            throw new IllegalStateException();
+        });
+        CompletionException e = assertThrows(CompletionException.class, result::join);
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertThrows(CancellationException.class, never::join);
+    }
+}
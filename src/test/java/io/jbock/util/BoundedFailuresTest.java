@@ -0,0 +1,82 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.jbock.util.Either.left;
+import static io.jbock.util.Either.right;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedFailuresTest {
+
+    private static final Function<Integer, Either<String, Integer>> MAPPER = n ->
+            n < 0 ? left("" + n) : right(n);
+
+    @Test
+    void testCollectorRight() {
+        assertEquals(right(List.of(1, 2)), Stream.of(1, 2).map(MAPPER).collect(Eithers.allFailures(1)));
+    }
+
+    @Test
+    void testCollectorTruncated() {
+        TruncatedList<String> result = Stream.of(-1, 2, -3, -4, -5).map(MAPPER)
+                .collect(Eithers.allFailures(2)).getLeft().orElseThrow();
+        assertEquals(List.of("-1", "-3"), result);
+        assertEquals(2, result.omitted());
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void testCollectorNotTruncated() {
+        TruncatedList<String> result = Stream.of(-1, 2, -3).map(MAPPER)
+                .collect(Eithers.allFailures(2)).getLeft().orElseThrow();
+        assertEquals(List.of("-1", "-3"), result);
+        assertEquals(0, result.omitted());
+        assertFalse(result.isTruncated());
+    }
+
+    @Test
+    void testCollectorParallel() {
+        TruncatedList<String> result = IntStream.range(0, 100_000).parallel()
+                .mapToObj(n -> MAPPER.apply(-n - 1))
+                .collect(Eithers.allFailures(100)).getLeft().orElseThrow();
+        assertEquals(IntStream.rangeClosed(1, 100).mapToObj(n -> "" + -n).collect(Collectors.toList()), result);
+        assertEquals(100_000 - 100, result.omitted());
+    }
+
+    @Test
+    void testTraverse() {
+        assertEquals(right(List.of(1, 2)), Eithers.traverseAllFailures(List.of(1, 2), MAPPER, 1));
+        TruncatedList<String> result = Eithers.traverseAllFailures(List.of(-1, 2, -3), MAPPER, 2)
+                .getLeft().orElseThrow();
+        assertEquals(List.of("-1", "-3"), result);
+        assertFalse(result.isTruncated());
+    }
+
+    @Test
+    void testTraverseStopsEarly() {
+        AtomicInteger pulled = new AtomicInteger();
+        TruncatedList<String> result = Eithers.traverseAllFailures(
+                Stream.iterate(-1, n -> n - 1).peek(n -> pulled.incrementAndGet()), MAPPER, 3)
+                .getLeft().orElseThrow();
+        assertEquals(List.of("-1", "-2", "-3"), result);
+        assertTrue(result.isTruncated());
+        assertEquals(TruncatedList.UNKNOWN, result.omitted());
+        assertEquals(4, pulled.get());
+    }
+
+    @Test
+    void testInvalidMaxFailures() {
+        assertThrows(IllegalArgumentException.class, () -> Eithers.allFailures(0));
+        assertThrows(IllegalArgumentException.class, () -> Eithers.traverseAllFailures(List.of(1), MAPPER, 0));
+    }
+}
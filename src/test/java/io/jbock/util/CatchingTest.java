@@ -0,0 +1,69 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatchingTest {
+
+    @Test
+    void testCatchingSupplier() {
+        assertEquals(Either.right(1), Either.catching(() -> 1));
+        IOException e = new IOException("x");
+        assertEquals(Either.left(e), Either.catching(() -> {
+            throw e;
+        }));
+        assertThrows(AssertionError.class, () -> Either.catching(() -> {
+            throw new AssertionError();
+        }));
+    }
+
+    @Test
+    void testCatchingInterrupted() {
+        Either<Exception, Object> result = Either.catching(() -> {
+            throw new InterruptedException();
+        });
+        assertTrue(result.isLeft());
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void testCatchingFunction() {
+        Function<String, Either<Exception, Integer>> parse = Either.catching(Integer::parseInt);
+        assertEquals(Either.right(12), parse.apply("12"));
+        assertTrue(parse.apply("x").leftOrNull() instanceof NumberFormatException);
+        assertEquals(Either.right(List.of(1, 2)), Eithers.traverse(List.of("1", "2"), parse));
+    }
+
+    @Test
+    void testOrElseThrow() {
+        assertEquals(1, Either.right(1).orElseThrow());
+        LeftException e = assertThrows(LeftException.class, () -> Either.left("bad").orElseThrow());
+        assertEquals("bad", e.value());
+        assertEquals("bad", e.getMessage());
+        assertEquals(0, e.getStackTrace().length);
+        assertNull(e.getCause());
+    }
+
+    @Test
+    void testWithStackTrace() {
+        IOException cause = new IOException();
+        LeftException e = assertThrows(LeftException.class,
+                () -> Either.left(cause).orElseThrow(LeftException::withStackTrace));
+        assertSame(cause, e.getCause());
+        assertTrue(e.getStackTrace().length > 0);
+        e.addSuppressed(new RuntimeException());
+        assertEquals(1, e.getSuppressed().length);
+        LeftException stackless = LeftException.of("x");
+        stackless.addSuppressed(new RuntimeException());
+        assertEquals(0, stackless.getSuppressed().length);
+    }
+}
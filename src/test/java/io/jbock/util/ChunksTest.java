@@ -0,0 +1,73 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChunksTest {
+
+    @Test
+    void testEmpty() {
+        assertEquals(List.of(), new Chunks<>().toList());
+        assertEquals(0, new Chunks<>().size());
+    }
+
+    @Test
+    void testAddAll() {
+        Chunks<Integer> a = chunks(1, 2);
+        Chunks<Integer> b = chunks(3);
+        Chunks<Integer> c = chunks(4, 5);
+        a.addAll(b);
+        a.addAll(new Chunks<>());
+        a.addAll(c);
+        a.add(6);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), a.toList());
+        assertEquals(6, a.size());
+    }
+
+    @Test
+    void testNested() {
+        Chunks<Integer> a = chunks(1);
+        Chunks<Integer> b = chunks(2);
+        Chunks<Integer> c = chunks(3);
+        Chunks<Integer> d = chunks(4);
+        a.addAll(b);
+        c.addAll(d);
+        a.addAll(c);
+        assertEquals(List.of(1, 2, 3, 4), a.toList());
+    }
+
+    @Test
+    void testConcatenatedView() {
+        Chunks<Integer> a = chunks(1, 2);
+        a.addAll(new Chunks<>());
+        a.addAll(chunks(3));
+        a.addAll(chunks(4, 5, 6));
+        List<Integer> list = a.toList();
+        assertEquals(6, list.size());
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i + 1, list.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(6));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 0));
+    }
+
+    @Test
+    void testSingleSegmentNotCopied() {
+        Chunks<Integer> a = chunks(1, 2);
+        assertSame(a.toList(), a.toList());
+    }
+
+    @SafeVarargs
+    private static <E> Chunks<E> chunks(E... elements) {
+        Chunks<E> result = new Chunks<>();
+        for (E element : elements) {
+            result.add(element);
+        }
+        return result;
+    }
+}
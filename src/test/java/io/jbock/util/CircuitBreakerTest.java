@@ -0,0 +1,154 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong time = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicBoolean healthy = new AtomicBoolean(false);
+
+    private final Function<Integer, Either<String, Integer>> dependency = n -> {
+        calls.incrementAndGet();
+        return healthy.get() ? Either.right(n) : Either.left("down " + n);
+    };
+
+    private CircuitBreaker<String> breaker(Supplier<String> fallback) {
+        return CircuitBreaker.create(4, 0.5, Duration.ofSeconds(10), fallback, time::get);
+    }
+
+    @Test
+    void testOpensAndReturnsLastLeft() {
+        CircuitBreaker<String> breaker = breaker(null);
+        Function<Integer, Either<String, Integer>> f = breaker.decorateFunction(dependency);
+        for (int i = 0; i < 3; i++) {
+            f.apply(i);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state()); // window not full yet
+        assertEquals(Either.left("down 3"), f.apply(3));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(Either.left("down 3"), f.apply(4));
+        assertEquals(Either.left("down 3"), f.apply(5));
+        assertEquals(4, calls.get());
+        assertEquals(2, breaker.rejectedCalls());
+    }
+
+    @Test
+    void testFallback() {
+        CircuitBreaker<String> breaker = breaker(() -> "fallback");
+        Supplier<Either<String, Integer>> s = breaker.decorateSupplier(() -> dependency.apply(0));
+        for (int i = 0; i < 4; i++) {
+            s.get();
+        }
+        assertEquals(Either.left("fallback"), s.get());
+    }
+
+    @Test
+    void testBelowThreshold() {
+        CircuitBreaker<String> breaker = breaker(null);
+        Function<Integer, Either<String, Integer>> f = breaker.decorateFunction(dependency);
+        for (int i = 0; i < 20; i++) {
+            healthy.set(i % 4 != 0);
+            f.apply(i);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(20, calls.get());
+    }
+
+    @Test
+    void testHalfOpenRecovery() {
+        CircuitBreaker<String> breaker = breaker(null);
+        Function<Integer, Either<String, Integer>> f = breaker.decorateFunction(dependency);
+        for (int i = 0; i < 4; i++) {
+            f.apply(i);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        time.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(Either.left("down 4"), f.apply(4)); // failed probe
+        assertEquals(5, calls.get());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        f.apply(5);
+        assertEquals(5, calls.get());
+        time.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        healthy.set(true);
+        assertEquals(Either.right(6), f.apply(6)); // successful probe
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(Either.right(7), f.apply(7));
+        assertEquals(7, calls.get());
+    }
+
+    @Test
+    void testSlowCallDoesNotLeakIntoNewWindow() throws InterruptedException {
+        CircuitBreaker<String> breaker = breaker(null);
+        Function<Integer, Either<String, Integer>> f = breaker.decorateFunction(dependency);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Either<String, Integer>> slow = breaker.decorateSupplier(() -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return Either.left("slow");
+        });
+        Thread thread = new Thread(slow::get);
+        thread.start();
+        entered.await();
+        for (int i = 0; i < 4; i++) {
+            f.apply(i);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        time.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        healthy.set(true);
+        f.apply(4); // successful probe
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        release.countDown();
+        thread.join();
+        healthy.set(false);
+        f.apply(5);
+        healthy.set(true);
+        f.apply(6);
+        f.apply(7);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state()); // window not full yet
+    }
+
+    @Test
+    void testExceptions() {
+        CircuitBreaker<String> breaker = breaker(null);
+        Supplier<Either<String, Integer>> s = breaker.decorateSupplier(() -> {
+            throw new UnsupportedOperationException();
+        });
+        for (int i = 0; i < 4; i++) {
+            assertThrows(UnsupportedOperationException.class, s::get);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        CallNotPermittedException e1 = assertThrows(CallNotPermittedException.class, s::get);
+        CallNotPermittedException e2 = assertThrows(CallNotPermittedException.class, s::get);
+        assertNotSame(e1, e2);
+        assertTrue(e1.getCause() instanceof UnsupportedOperationException);
+        assertEquals(0, e1.getStackTrace().length);
+        assertEquals(2, breaker.rejectedCalls());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.create(0, 0.5, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.create(1, 0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.create(1, 1.5, Duration.ZERO));
+    }
+}
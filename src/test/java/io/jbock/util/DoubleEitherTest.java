@@ -0,0 +1,134 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DoubleEitherTest {
+
+    @Test
+    void testEqualsAndHashCode() {
+        assertEquals(DoubleEither.right(1.5), DoubleEither.right(1.5));
+        assertEquals(DoubleEither.right(1.5).hashCode(), DoubleEither.right(1.5).hashCode());
+        assertNotEquals(DoubleEither.right(1.5), DoubleEither.right(2.5));
+        assertEquals(DoubleEither.left("1"), DoubleEither.left("1"));
+        assertEquals(DoubleEither.left("1").hashCode(), DoubleEither.left("1").hashCode());
+        assertNotEquals(DoubleEither.left("1"), DoubleEither.left("2"));
+        assertNotEquals(DoubleEither.<Object>left(0.0), DoubleEither.right(0.0));
+        assertNotEquals(DoubleEither.right(0.0), DoubleEither.<Object>left(0.0));
+    }
+
+    @Test
+    void testEqualsNaN() {
+        // like Double.equals, and unlike ==
+        assertEquals(DoubleEither.right(Double.NaN), DoubleEither.right(Double.NaN));
+        assertEquals(DoubleEither.right(Double.NaN).hashCode(), DoubleEither.right(0.0 / 0.0).hashCode());
+        assertNotEquals(DoubleEither.right(Double.NaN), DoubleEither.right(0.0));
+    }
+
+    @Test
+    void testEqualsNegativeZero() {
+        // like Double.equals, and unlike ==
+        assertNotEquals(DoubleEither.right(0.0), DoubleEither.right(-0.0));
+        assertEquals(DoubleEither.right(-0.0), DoubleEither.right(-0.0));
+        assertEquals(DoubleEither.right(-0.0).hashCode(), DoubleEither.right(-0.0).hashCode());
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("Right[1.5]", DoubleEither.right(1.5).toString());
+        assertEquals("Right[NaN]", DoubleEither.right(Double.NaN).toString());
+        assertEquals("Right[-0.0]", DoubleEither.right(-0.0).toString());
+        assertEquals("Left[1]", DoubleEither.left("1").toString());
+    }
+
+    @Test
+    void testGetLeftAndGetRight() {
+        DoubleEither<String> left = DoubleEither.left("1");
+        assertTrue(left.isLeft());
+        assertFalse(left.isRight());
+        assertEquals(Optional.of("1"), left.getLeft());
+        assertEquals(OptionalDouble.empty(), left.getRight());
+        DoubleEither<String> right = DoubleEither.right(1.5);
+        assertTrue(right.isRight());
+        assertEquals(Optional.empty(), right.getLeft());
+        assertEquals(OptionalDouble.of(1.5), right.getRight());
+        assertEquals(OptionalDouble.of(Double.NaN), DoubleEither.right(Double.NaN).getRight());
+    }
+
+    @Test
+    void testMap() {
+        DoubleEither<String> left = DoubleEither.left("1");
+        assertSame(left, left.map(x -> x + 1));
+        assertEquals(DoubleEither.right(2.5), DoubleEither.right(1.5).map(x -> x + 1));
+        assertEquals(Either.right("1.5"), DoubleEither.right(1.5).mapToObj(Double::toString));
+        assertEquals(Either.left("1"), left.mapToObj(Double::toString));
+        assertEquals(IntEither.right(1), DoubleEither.right(1.5).mapToInt(x -> (int) x));
+        assertEquals(IntEither.left("1"), left.mapToInt(x -> (int) x));
+        assertEquals(LongEither.right(3L), DoubleEither.right(1.5).mapToLong(x -> (long) (2 * x)));
+        assertEquals(LongEither.left("1"), left.mapToLong(x -> (long) x));
+    }
+
+    @Test
+    void testFlatMap() {
+        DoubleEither<String> left = DoubleEither.left("1");
+        assertSame(left, left.flatMap(DoubleEither::right));
+        assertEquals(DoubleEither.right(2.5), DoubleEither.<String>right(1.5).flatMap(x -> DoubleEither.right(x + 1)));
+        assertEquals(DoubleEither.left("x"), DoubleEither.<String>right(1.5).flatMap(x -> DoubleEither.left("x")));
+    }
+
+    @Test
+    void testFilter() {
+        DoubleEither<String> left = DoubleEither.left("1");
+        assertSame(left, left.filter(x -> false, Double::toString));
+        DoubleEither<String> right = DoubleEither.right(1.5);
+        assertSame(right, right.filter(x -> x > 0, Double::toString));
+        assertEquals(DoubleEither.left("1.5"), right.filter(x -> x < 0, Double::toString));
+        assertEquals(DoubleEither.left("NaN"), DoubleEither.<String>right(Double.NaN).filter(x -> x == x, Double::toString));
+    }
+
+    @Test
+    void testMapLeft() {
+        assertEquals(DoubleEither.left(1), DoubleEither.left("1").mapLeft(Integer::parseInt));
+        DoubleEither<String> right = DoubleEither.right(1.5);
+        assertSame(right, right.mapLeft(Integer::parseInt));
+    }
+
+    @Test
+    void testFold() {
+        assertEquals("L1", DoubleEither.left("1").fold(l -> "L" + l, r -> "R" + r));
+        assertEquals("R1.5", DoubleEither.right(1.5).fold(l -> "L" + l, r -> "R" + r));
+        String[] output = {""};
+        DoubleEither.left("1").ifLeftOrElse(l -> output[0] = "L", r -> output[0] = "R");
+        assertEquals("L", output[0]);
+        DoubleEither.right(1.5).ifLeftOrElse(l -> output[0] = "L", r -> output[0] = "R");
+        assertEquals("R", output[0]);
+    }
+
+    @Test
+    void testOrElse() throws IOException {
+        assertEquals(2.5, DoubleEither.left("1").orElse(2.5));
+        assertEquals(1.5, DoubleEither.right(1.5).orElse(2.5));
+        IOException x = assertThrows(IOException.class, () -> DoubleEither.left("1").orElseThrow(IOException::new));
+        assertEquals("1", x.getMessage());
+        assertEquals(1.5, DoubleEither.<String>right(1.5).orElseThrow(IOException::new));
+    }
+
+    @Test
+    void testBoxed() {
+        assertEquals(Either.right(1.5), DoubleEither.right(1.5).boxed());
+        assertEquals(Either.right(Double.NaN), DoubleEither.right(Double.NaN).boxed());
+        assertEquals(Either.left("1"), DoubleEither.left("1").boxed());
+        assertEquals(DoubleEither.right(1.5), Either.right("1.5").mapToDouble(Double::parseDouble));
+        assertEquals(DoubleEither.left("1"), Either.left("1").mapToDouble(Object::hashCode));
+    }
+}
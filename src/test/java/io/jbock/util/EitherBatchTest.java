@@ -0,0 +1,98 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherBatchTest {
+
+    private static List<Either<String, Integer>> data(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(n -> n % 3 == 0 ? Either.<String, Integer>left("L" + n) : Either.<String, Integer>right(n))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testIndexedAccess() {
+        List<Either<String, Integer>> data = data(200);
+        EitherBatch<String, Integer> batch = EitherBatch.of(data);
+        assertEquals(200, batch.size());
+        assertEquals(67, batch.leftCount());
+        assertEquals(133, batch.rightCount());
+        for (int i = 0; i < data.size(); i++) {
+            assertEquals(data.get(i), batch.get(i));
+            assertEquals(data.get(i).isLeft(), batch.isLeft(i));
+            assertEquals(data.get(i).leftOrNull(), batch.leftOrNull(i));
+            assertEquals(data.get(i).rightOrNull(), batch.rightOrNull(i));
+        }
+        assertEquals(data, batch.toList());
+        assertEquals(data, batch.stream().collect(Collectors.toList()));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(200));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.isLeft(-1));
+    }
+
+    @Test
+    void testBuilder() {
+        EitherBatch.Builder<String, Integer> builder = EitherBatch.builder();
+        builder.addRight(1).addLeft("a").add(Either.right(2));
+        EitherBatch<String, Integer> batch = builder.build();
+        assertEquals(List.of(Either.right(1), Either.left("a"), Either.right(2)), batch.toList());
+        builder.addLeft("b");
+        assertEquals(3, batch.size());
+        assertEquals(4, builder.build().size());
+        assertEquals(0, EitherBatch.<String, Integer>builder(0).build().size());
+    }
+
+    @Test
+    void testMap() {
+        EitherBatch<String, Integer> batch = EitherBatch.of(data(10));
+        EitherBatch<String, String> mapped = batch.map(n -> "R" + n);
+        assertEquals(data(10).stream().map(e -> e.map(n -> "R" + n)).collect(Collectors.toList()), mapped.toList());
+        EitherBatch<Integer, Integer> mappedLeft = batch.mapLeft(String::length);
+        assertEquals(data(10).stream().map(e -> e.mapLeft(String::length)).collect(Collectors.toList()), mappedLeft.toList());
+    }
+
+    @Test
+    void testFailures() {
+        EitherBatch<String, Integer> batch = EitherBatch.of(data(10));
+        assertEquals(data(10).stream().collect(Eithers.allFailures()), batch.allFailures());
+        assertEquals(data(10).stream().collect(Eithers.firstFailure()), batch.firstFailure());
+        EitherBatch<String, Integer> rights = EitherBatch.of(List.of(Either.right(1), Either.right(2)));
+        assertEquals(Either.right(List.of(1, 2)), rights.allFailures());
+        assertEquals(Either.right(List.of(1, 2)), rights.firstFailure());
+    }
+
+    @Test
+    void testForEach() {
+        List<Object> seen = new ArrayList<>();
+        EitherBatch.of(data(4)).forEach(seen::add, seen::add);
+        assertEquals(List.of("L0", 1, 2, "L3"), seen);
+    }
+
+    @Test
+    void testCollector() {
+        List<Either<String, Integer>> data = data(100_000);
+        EitherBatch<String, Integer> sequential = data.stream().collect(Eithers.toBatch());
+        EitherBatch<String, Integer> parallel = data.parallelStream().collect(Eithers.toBatch());
+        assertEquals(data, sequential.toList());
+        assertEquals(data, parallel.toList());
+    }
+
+    @Test
+    void testEmpty() {
+        EitherBatch<String, Integer> empty = EitherBatch.empty();
+        assertEquals(0, empty.size());
+        assertTrue(empty.lefts().isEmpty());
+        assertFalse(empty.allFailures().isLeft());
+        assertNull(EitherBatch.of(List.of(Either.<String, Integer>right(1))).leftOrNull(0));
+    }
+}
@@ -0,0 +1,167 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherCacheTest {
+
+    private final AtomicLong time = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final Function<Integer, Either<String, Integer>> loader = n -> {
+        calls.incrementAndGet();
+        return n < 0 ? Either.left("negative") : Either.right(n * 2);
+    };
+
+    private EitherCache<Integer, String, Integer> cache(EitherCache.Policy rights, EitherCache.Policy lefts) {
+        return EitherCache.create(loader, rights, lefts, time::get);
+    }
+
+    @Test
+    void testHitsAndMisses() {
+        EitherCache<Integer, String, Integer> cache = cache(EitherCache.Policy.of(10), EitherCache.Policy.of(10));
+        assertEquals(Either.right(2), cache.apply(1));
+        assertEquals(Either.right(2), cache.apply(1));
+        assertEquals(Either.left("negative"), cache.apply(-1));
+        assertEquals(Either.left("negative"), cache.apply(-1));
+        assertEquals(2, calls.get());
+        EitherCache.Stats stats = cache.stats();
+        assertEquals(1, stats.rightHits());
+        assertEquals(1, stats.leftHits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.loads());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void testSeparateTtl() {
+        EitherCache<Integer, String, Integer> cache = cache(
+                EitherCache.Policy.of(10, Duration.ofMinutes(10)),
+                EitherCache.Policy.of(10, Duration.ofSeconds(1)));
+        cache.apply(1);
+        cache.apply(-1);
+        time.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        cache.apply(1);
+        cache.apply(-1);
+        assertEquals(3, calls.get());
+        time.addAndGet(TimeUnit.MINUTES.toNanos(10));
+        cache.apply(1);
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void testLruEviction() {
+        EitherCache<Integer, String, Integer> cache = cache(EitherCache.Policy.of(2), EitherCache.Policy.disabled());
+        cache.apply(1);
+        cache.apply(2);
+        cache.apply(1); // 2 is now the least recently used
+        cache.apply(3);
+        assertEquals(3, calls.get());
+        cache.apply(1);
+        assertEquals(3, calls.get());
+        cache.apply(2);
+        assertEquals(4, calls.get());
+        assertEquals(2, cache.stats().evictions());
+        cache.apply(-1);
+        cache.apply(-1);
+        assertEquals(6, calls.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testInvalidate() {
+        EitherCache<Integer, String, Integer> cache = cache(EitherCache.Policy.of(10), EitherCache.Policy.of(10));
+        cache.apply(1);
+        cache.apply(-1);
+        cache.invalidate(1);
+        assertEquals(1, cache.size());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testLoaderException() {
+        EitherCache<Integer, String, Integer> cache = EitherCache.create(n -> {
+            throw new IllegalStateException();
+        }, EitherCache.Policy.of(10), EitherCache.Policy.of(10), time::get);
+        assertThrows(IllegalStateException.class, () -> cache.apply(1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testRecursiveLoad() {
+        AtomicReference<Function<Integer, Either<String, Integer>>> self = new AtomicReference<>();
+        EitherCache<Integer, String, Integer> cache = EitherCache.create(
+                n -> n == 0 ? Either.right(0) : self.get().apply(n - n % 2),
+                EitherCache.Policy.of(10), EitherCache.Policy.of(10), time::get);
+        self.set(cache);
+        assertEquals(Either.right(0), cache.apply(0));
+        assertEquals(Either.right(0), cache.apply(1));
+        assertThrows(IllegalStateException.class, () -> cache.apply(2));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testStriped() {
+        int maxSize = 16 * 64 * Runtime.getRuntime().availableProcessors();
+        EitherCache<Integer, String, Integer> cache = cache(EitherCache.Policy.of(maxSize), EitherCache.Policy.disabled());
+        for (int i = 0; i < 2 * maxSize; i++) {
+            cache.apply(i);
+        }
+        assertEquals(maxSize, cache.size());
+        assertEquals(maxSize, cache.stats().evictions());
+        for (int i = maxSize; i < 2 * maxSize; i++) {
+            assertEquals(Either.right(2 * i), cache.apply(i));
+        }
+        assertEquals(maxSize, cache.stats().hits());
+    }
+
+    @Test
+    void testSingleFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        EitherCache<Integer, String, Integer> cache = Eithers.memoize(n -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return Either.right(n);
+        }, EitherCache.Policy.of(10), EitherCache.Policy.of(10));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Either<String, Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> cache.apply(7)));
+            }
+            while (cache.stats().misses() + cache.stats().hits() < 8) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            for (Future<Either<String, Integer>> future : futures) {
+                assertEquals(Either.right(7), future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, loads.get());
+        assertTrue(cache.stats().loads() == 1);
+    }
+}
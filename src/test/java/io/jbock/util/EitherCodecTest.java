@@ -0,0 +1,128 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EitherCodecTest {
+
+    private final EitherCodec<String, Integer> codec = EitherCodec.of(ValueCodec.ofString(), ValueCodec.ofInt());
+
+    @Test
+    void testSingle() {
+        Either<String, Integer> left = Either.left("a\u00e4\u20ac\ud83d\ude00");
+        Either<String, Integer> right = Either.right(7);
+        ByteBuffer leftBuffer = codec.encode(left);
+        ByteBuffer rightBuffer = codec.encode(right);
+        assertEquals(1 + 4 + 10, leftBuffer.remaining());
+        assertEquals(5, rightBuffer.remaining());
+        assertEquals(left, codec.read(leftBuffer));
+        assertEquals(right, codec.read(rightBuffer));
+        assertEquals(0, leftBuffer.remaining());
+    }
+
+    @Test
+    void testUnpairedSurrogate() {
+        ByteBuffer buffer = codec.encode(Either.left("x\ud83d"));
+        assertEquals(buffer.capacity(), buffer.remaining());
+        assertEquals(Either.left("x?"), codec.read(buffer));
+    }
+
+    @Test
+    void testDirectBuffer() {
+        Either<String, Integer> left = Either.left("hello");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        codec.write(left, buffer);
+        codec.write(Either.right(3), buffer);
+        buffer.flip();
+        assertEquals(left, codec.read(buffer));
+        assertEquals(Either.right(3), codec.read(buffer));
+    }
+
+    @Test
+    void testBulk() {
+        List<Either<String, Integer>> values = IntStream.range(0, 130)
+                .mapToObj(n -> n % 3 == 0 ? Either.<String, Integer>left("L" + n) : Either.<String, Integer>right(n))
+                .collect(Collectors.toList());
+        ByteBuffer buffer = codec.encodeAll(values);
+        assertEquals(codec.encodedSizeAll(values), buffer.remaining());
+        assertEquals(values, codec.readAll(buffer));
+        assertEquals(List.of(), codec.readAll(codec.encodeAll(List.of())));
+    }
+
+    @Test
+    void testDataStreams() throws IOException {
+        List<Either<String, Integer>> values = List.of(Either.left("x"), Either.right(1), Either.right(2));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        codec.write(Either.right(5), out);
+        codec.writeAll(values, out);
+        out.flush();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(Either.right(5), codec.read(in));
+        assertEquals(values, codec.readAll(in));
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        assertEquals(Either.right(5), codec.read(buffer));
+        assertEquals(values, codec.readAll(buffer));
+    }
+
+    @Test
+    void testNested() {
+        EitherCodec<Long, Either<String, Integer>> nested = EitherCodec.of(ValueCodec.ofLong(), codec);
+        Either<Long, Either<String, Integer>> value = Either.right(Either.left("inner"));
+        assertEquals(value, nested.read(nested.encode(value)));
+    }
+
+    @Test
+    void testInvalidTag() {
+        assertThrows(IllegalArgumentException.class, () -> codec.read(ByteBuffer.wrap(new byte[]{2, 0, 0, 0, 0})));
+    }
+
+    @Test
+    void testCorruptSize() {
+        byte[] header = {0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0, 0, 0, 0, 0, 0, 0, 0};
+        assertThrows(BufferUnderflowException.class, () -> codec.readAll(ByteBuffer.wrap(header)));
+        assertThrows(EOFException.class, () -> codec.readAll(new DataInputStream(new ByteArrayInputStream(header))));
+    }
+
+    @Test
+    void testTruncatedString() {
+        ByteBuffer encoded = codec.encode(Either.left("hello"));
+        ByteBuffer truncated = encoded.limit(encoded.limit() - 1);
+        assertThrows(BufferUnderflowException.class, () -> codec.read(truncated));
+        byte[] header = {0, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 'x'};
+        assertThrows(BufferUnderflowException.class, () -> codec.read(ByteBuffer.wrap(header)));
+        assertThrows(EOFException.class, () -> codec.read(new DataInputStream(new ByteArrayInputStream(header))));
+    }
+
+    @Test
+    void testLongString() throws IOException {
+        Either<String, Integer> left = Either.left("x".repeat(20000));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.write(left, new DataOutputStream(bytes));
+        assertEquals(left, codec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+    }
+
+    @Test
+    void testDataStreamsLarge() throws IOException {
+        List<Either<String, Integer>> values = IntStream.range(0, 5000)
+                .mapToObj(i -> i % 3 == 0 ? Either.<String, Integer>left("l" + i) : Either.<String, Integer>right(i))
+                .collect(Collectors.toList());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.writeAll(values, new DataOutputStream(bytes));
+        assertEquals(values, codec.readAll(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+    }
+}
@@ -0,0 +1,250 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherProcessorTest {
+
+    private static Either<String, Integer> oddIsLeft(int n) {
+        return n % 2 == 1 ? Either.left("L" + n) : Either.right(n);
+    }
+
+    @Test
+    void testPass() {
+        Recorder<String> lefts = new Recorder<>(Long.MAX_VALUE);
+        Recorder<Integer> rights = new Recorder<>(Long.MAX_VALUE);
+        EitherProcessor<String, Integer> processor = EitherProcessor.create(lefts);
+        processor.subscribe(rights);
+        Range upstream = new Range(6, EitherProcessorTest::oddIsLeft);
+        upstream.subscribe(processor);
+        assertEquals(List.of(0, 2, 4), rights.values);
+        assertEquals(List.of("L1", "L3", "L5"), lefts.values);
+        assertTrue(rights.completed);
+        assertTrue(lefts.completed);
+    }
+
+    @Test
+    void testBatchedDemand() {
+        Recorder<String> lefts = new Recorder<>(Long.MAX_VALUE);
+        Recorder<Integer> rights = new Recorder<>(Long.MAX_VALUE);
+        EitherProcessor<String, Integer> processor = EitherProcessor.create(lefts, EitherProcessor.Mode.PASS, 8);
+        processor.subscribe(rights);
+        Range upstream = new Range(100, EitherProcessorTest::oddIsLeft);
+        upstream.subscribe(processor);
+        assertEquals(50, rights.values.size());
+        assertEquals(50, lefts.values.size());
+        assertEquals(8L, upstream.requests.get(0));
+        for (long n : upstream.requests) {
+            assertTrue(n >= 6 && n <= 8);
+        }
+        assertTrue(upstream.requests.size() < 20);
+    }
+
+    @Test
+    void testBackpressure() {
+        Recorder<String> lefts = new Recorder<>(Long.MAX_VALUE);
+        Recorder<Integer> rights = new Recorder<>(0);
+        EitherProcessor<String, Integer> processor = EitherProcessor.create(lefts, EitherProcessor.Mode.PASS, 4);
+        processor.subscribe(rights);
+        Range upstream = new Range(100, n -> Either.right(n));
+        upstream.subscribe(processor);
+        assertEquals(4, upstream.emitted);
+        assertEquals(List.of(), rights.values);
+        rights.subscription.request(2);
+        assertEquals(List.of(0, 1), rights.values);
+        assertEquals(4, upstream.emitted);
+        rights.subscription.request(1);
+        assertEquals(List.of(0, 1, 2), rights.values);
+        assertEquals(7, upstream.emitted);
+        rights.subscription.request(Long.MAX_VALUE);
+        assertEquals(100, rights.values.size());
+        assertTrue(rights.completed);
+    }
+
+    @Test
+    void testFirstFailure() {
+        Recorder<String> lefts = new Recorder<>(Long.MAX_VALUE);
+        Recorder<Integer> rights = new Recorder<>(Long.MAX_VALUE);
+        EitherProcessor<String, Integer> processor = EitherProcessor.create(lefts, EitherProcessor.Mode.FIRST_FAILURE, 16);
+        processor.subscribe(rights);
+        Range upstream = new Range(100, n -> n == 3 || n == 5 ? Either.left("L" + n) : Either.right(n));
+        upstream.subscribe(processor);
+        assertEquals(List.of(0, 1, 2), rights.values);
+        assertEquals(List.of("L3"), lefts.values);
+        assertTrue(rights.completed);
+        assertTrue(lefts.completed);
+        assertTrue(upstream.cancelled);
+    }
+
+    @Test
+    void testAllFailures() {
+        Recorder<String> lefts = new Recorder<>(Long.MAX_VALUE);
+        Recorder<Integer> rights = new Recorder<>(Long.MAX_VALUE);
+        EitherProcessor<String, Integer> processor = EitherProcessor.create(lefts, EitherProcessor.Mode.ALL_FAILURES, 16);
+        processor.subscribe(rights);
+        Range upstream = new Range(10, n -> n == 3 || n == 5 ? Either.left("L" + n) : Either.right(n));
+        upstream.subscribe(processor);
+        assertEquals(List.of(0, 1, 2), rights.values);
+        assertEquals(List.of("L3", "L5"), lefts.values);
+        assertTrue(rights.completed);
+        assertTrue(lefts.completed);
+    }
+
+    @Test
+    void testError() {
+        Recorder<String> lefts = new Recorder<>(Long.MAX_VALUE);
+        Recorder<Integer> rights = new Recorder<>(Long.MAX_VALUE);
+        EitherProcessor<String, Integer> processor = EitherProcessor.create(lefts);
+        processor.subscribe(rights);
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        IllegalStateException e = new IllegalStateException();
+        processor.onError(e);
+        assertEquals(e, rights.error);
+        assertEquals(e, lefts.error);
+    }
+
+    @Test
+    void testLateSubscriber() {
+        Recorder<String> lefts = new Recorder<>(Long.MAX_VALUE);
+        EitherProcessor<String, Integer> processor = EitherProcessor.create(lefts);
+        new Range(2, EitherProcessorTest::oddIsLeft).subscribe(processor);
+        assertEquals(List.of(), lefts.values);
+        Recorder<Integer> rights = new Recorder<>(Long.MAX_VALUE);
+        processor.subscribe(rights);
+        assertEquals(List.of(0), rights.values);
+        assertEquals(List.of("L1"), lefts.values);
+        assertTrue(rights.completed);
+        Recorder<Integer> second = new Recorder<>(Long.MAX_VALUE);
+        processor.subscribe(second);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    void testAsync() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        Recorder<String> lefts = new Recorder<>(Long.MAX_VALUE, latch);
+        Recorder<Integer> rights = new Recorder<>(Long.MAX_VALUE, latch);
+        EitherProcessor<String, Integer> processor = EitherProcessor.create(lefts);
+        processor.subscribe(rights);
+        try (SubmissionPublisher<Either<String, Integer>> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            for (int i = 0; i < 10_000; i++) {
+                publisher.submit(oddIsLeft(i));
+            }
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(5_000, rights.values.size());
+        assertEquals(5_000, lefts.values.size());
+        assertNull(rights.error);
+    }
+
+    private static final class Recorder<T> implements Flow.Subscriber<T> {
+
+        final List<T> values = new ArrayList<>();
+        final long initialRequest;
+        final CountDownLatch latch;
+        Flow.Subscription subscription;
+        boolean completed;
+        Throwable error;
+
+        Recorder(long initialRequest) {
+            this(initialRequest, new CountDownLatch(1));
+        }
+
+        Recorder(long initialRequest, CountDownLatch latch) {
+            this.initialRequest = initialRequest;
+            this.latch = latch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            latch.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            latch.countDown();
+        }
+    }
+
+    // A synchronous publisher that records the requests it receives.
+    private static final class Range implements Flow.Publisher<Either<String, Integer>> {
+
+        final int size;
+        final IntFunction<Either<String, Integer>> f;
+        final List<Long> requests = new ArrayList<>();
+        int emitted;
+        boolean cancelled;
+
+        Range(int size, IntFunction<Either<String, Integer>> f) {
+            this.size = size;
+            this.f = f;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Either<String, Integer>> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                long demand;
+                boolean emitting;
+
+                @Override
+                public void request(long n) {
+                    requests.add(n);
+                    demand += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && emitted < size && !cancelled) {
+                        demand--;
+                        subscriber.onNext(f.apply(emitted++));
+                    }
+                    emitting = false;
+                    if (emitted == size && !cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EitherProgramTest {
+
+    private static final int DEPTH = 1_000_000;
+
+    @Test
+    void testMapAndFlatMap() {
+        EitherProgram<String, Integer> program = EitherProgram.<String, Integer>right(1)
+                .map(n -> n + 1)
+                .flatMap(n -> EitherProgram.right(n * 10))
+                .flatMapEither(n -> n > 10 ? Either.left("big " + n) : Either.right(n));
+        assertEquals(Either.left("big 20"), program.toEither());
+    }
+
+    @Test
+    void testLeftSkipsRightSteps() {
+        AtomicInteger calls = new AtomicInteger();
+        EitherProgram<String, Integer> program = EitherProgram.<String, Integer>left("x")
+                .map(n -> calls.incrementAndGet())
+                .mapLeft(s -> s + "y")
+                .flatMap(n -> EitherProgram.right(calls.incrementAndGet()))
+                .flatMapLeft(s -> EitherProgram.right(s.length()));
+        assertEquals(Either.right(2), program.toEither());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void testLazyAndRepeatable() {
+        AtomicInteger calls = new AtomicInteger();
+        EitherProgram<String, Integer> program = EitherProgram.<String, Integer>defer(
+                () -> EitherProgram.right(calls.incrementAndGet()));
+        assertEquals(0, calls.get());
+        assertEquals(Either.right(1), program.toEither());
+        assertEquals(Either.right(2), program.toEither());
+    }
+
+    @Test
+    void testDeepLeftNestedChain() {
+        EitherProgram<String, Integer> program = EitherProgram.right(0);
+        for (int i = 0; i < DEPTH; i++) {
+            program = program.flatMap(n -> EitherProgram.right(n + 1));
+        }
+        assertEquals(Either.right(DEPTH), program.toEither());
+    }
+
+    @Test
+    void testDeepRecursion() {
+        assertEquals(Either.right(DEPTH), countDown(DEPTH, 0).toEither());
+        assertEquals(Either.left("odd"), alternate(DEPTH + 1).toEither());
+    }
+
+    private static EitherProgram<String, Integer> countDown(int n, int acc) {
+        if (n == 0) {
+            return EitherProgram.right(acc);
+        }
+        return EitherProgram.defer(() -> countDown(n - 1, acc + 1));
+    }
+
+    // fails on odd input, using flatMapLeft to recover at every level
+    private static EitherProgram<String, Integer> alternate(int n) {
+        if (n == 0) {
+            return EitherProgram.right(0);
+        }
+        return EitherProgram.<String, Integer>defer(() -> alternate(n - 1))
+                .flatMap(k -> n % 2 == 1 ? EitherProgram.left("odd") : EitherProgram.right(k))
+                .flatMapLeft(s -> n % 2 == 0 ? EitherProgram.right(n) : EitherProgram.left(s));
+    }
+}
@@ -3,12 +3,15 @@ package io.jbock.util;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -142,4 +145,70 @@ class EitherTest {
         Either<String, String> right = Either.right("2");
         assertEquals("2", right.orElseThrow(IllegalArgumentException::new));
     }
+
+    @Test
+    void testFilterPredicate() {
+        Either<String, String> left = Either.left("1");
+        assertSame(left, left.filter(r -> false, r -> "2")); // Left is unchanged
+        Either<String, String> right = Either.right("1");
+        assertSame(right, right.filter(r -> true, r -> "2"));
+        assertEquals(Either.left("2"), right.filter(r -> false, r -> "2"));
+    }
+
+    @Test
+    void testFilterLeftPredicate() {
+        Either<String, String> right = Either.right("1");
+        assertSame(right, right.filterLeft(l -> false, l -> "2")); // Right is unchanged
+        Either<String, String> left = Either.left("1");
+        assertSame(left, left.filterLeft(l -> true, l -> "2"));
+        assertEquals(Either.right("2"), left.filterLeft(l -> false, l -> "2"));
+    }
+
+    @Test
+    void testPrimitiveFolds() {
+        Either<String, Integer> left = Either.left("11");
+        Either<String, Integer> right = Either.right(2);
+        assertEquals(2, left.foldToInt(String::length, r -> r));
+        assertEquals(2, right.foldToInt(String::length, r -> r));
+        assertEquals(11L, left.foldToLong(Long::parseLong, r -> r));
+        assertEquals(2L, right.foldToLong(Long::parseLong, r -> r));
+        assertFalse(left.foldToBoolean(String::isEmpty, r -> true));
+        assertTrue(right.foldToBoolean(String::isEmpty, r -> true));
+    }
+
+    @Test
+    void testOrNull() {
+        Either<String, Integer> left = Either.left("1");
+        assertEquals("1", left.leftOrNull());
+        assertNull(left.rightOrNull());
+        assertEquals("1", left.leftOrElse("2"));
+        assertEquals(2, left.rightOrElse(2));
+        Either<String, Integer> right = Either.right(1);
+        assertNull(right.leftOrNull());
+        assertEquals(1, right.rightOrNull());
+        assertEquals("2", right.leftOrElse("2"));
+        assertEquals(1, right.rightOrElse(2));
+    }
+
+    @Test
+    void testCanonicalInstances() {
+        assertSame(Either.enumLeft(TimeUnit.SECONDS), Either.enumLeft(TimeUnit.SECONDS));
+        assertEquals(Either.left(TimeUnit.SECONDS), Either.enumLeft(TimeUnit.SECONDS));
+        assertNotEquals(Either.enumLeft(TimeUnit.SECONDS), Either.enumLeft(TimeUnit.DAYS));
+        assertSame(Either.rightBoolean(true), Either.rightBoolean(true));
+        assertEquals(Either.right(true), Either.rightBoolean(true));
+        assertEquals(Either.right(false), Either.rightBoolean(false));
+        assertSame(Either.rightEmptyList(), Either.rightEmptyList());
+        assertEquals(Either.right(List.of()), Either.rightEmptyList());
+    }
+
+    @Test
+    void testValue() {
+        Either<String, Integer> left = Either.left("1");
+        Either<String, Integer> right = Either.right(1);
+        assertTrue(left instanceof Left);
+        assertTrue(right instanceof Right);
+        assertEquals("1", ((Left<String, Integer>) left).value());
+        assertEquals(1, ((Right<String, Integer>) right).value());
+    }
 }
@@ -0,0 +1,92 @@
+package io.jbock.util;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstrumentTest {
+
+    private static List<Either<String, Integer>> data(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(n -> n % 10 == 0 ? Either.<String, Integer>left("L" + n) : Either.<String, Integer>right(n))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testMetrics() {
+        CollectorMetrics metrics = CollectorMetrics.create();
+        Either<List<String>, List<Integer>> result = data(100).stream()
+                .collect(Eithers.instrument("all", Eithers.allFailures(), metrics));
+        assertEquals(data(100).stream().collect(Eithers.allFailures()), result);
+        Either<String, List<Integer>> right = Stream.of(Either.<String, Integer>right(1), Either.<String, Integer>right(2))
+                .collect(Eithers.instrument("first", Eithers.firstFailure(), metrics));
+        assertEquals(Either.right(List.of(1, 2)), right);
+        assertEquals(2, metrics.runs());
+        assertEquals(1, metrics.failedRuns());
+        assertEquals(102, metrics.elements());
+        assertEquals(10, metrics.lefts());
+        assertEquals(92, metrics.rights());
+        assertEquals(12, metrics.resultElements());
+        assertEquals(0, metrics.combines());
+        assertTrue(metrics.totalNanos() > 0);
+    }
+
+    @Test
+    void testParallel() {
+        CollectorMetrics metrics = CollectorMetrics.create();
+        List<Either<String, Integer>> data = data(100_000);
+        Either<List<String>, List<Integer>> result = data.parallelStream()
+                .collect(Eithers.instrument("parallel", Eithers.allFailures(), metrics));
+        assertEquals(data.stream().collect(Eithers.allFailures()), result);
+        assertEquals(100_000, metrics.elements());
+        assertEquals(10_000, metrics.lefts());
+        assertEquals(10_000, metrics.resultElements());
+        assertTrue(metrics.combines() > 0);
+    }
+
+    @Test
+    void testUnorderedConcurrent() {
+        CollectorMetrics metrics = CollectorMetrics.create();
+        List<Either<String, Integer>> data = data(100_000);
+        Either<List<String>, List<Integer>> result = data.parallelStream()
+                .collect(Eithers.instrument("unordered", Eithers.allFailuresUnordered(), metrics));
+        assertEquals(10_000, result.getLeft().orElseThrow().size());
+        assertEquals(100_000, metrics.elements());
+        assertEquals(10_000, metrics.lefts());
+    }
+
+    @Test
+    void testJfrEvent() throws IOException {
+        Path file = Files.createTempFile("instrument", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.jbock.util.Collector");
+            recording.start();
+            data(50).stream().collect(Eithers.instrument("jfr-test", Eithers.allFailures()));
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> "jfr-test".equals(e.getString("name")))
+                    .collect(Collectors.toList());
+            assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            assertEquals(50, event.getLong("elements"));
+            assertEquals(5, event.getLong("lefts"));
+            assertEquals(5, event.getLong("resultSize"));
+            assertTrue(event.getBoolean("failed"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntEitherTest {
+
+    @Test
+    void testEqualsAndHashCode() {
+        assertEquals(IntEither.right(1), IntEither.right(1));
+        assertEquals(IntEither.right(1).hashCode(), IntEither.right(1).hashCode());
+        assertNotEquals(IntEither.right(1), IntEither.right(2));
+        assertEquals(IntEither.left("1"), IntEither.left("1"));
+        assertEquals(IntEither.left("1").hashCode(), IntEither.left("1").hashCode());
+        assertNotEquals(IntEither.left("1"), IntEither.left("2"));
+        assertNotEquals(IntEither.<Object>left(0), IntEither.right(0));
+        assertNotEquals(IntEither.right(0), IntEither.<Object>left(0));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("Right[1]", IntEither.right(1).toString());
+        assertEquals("Left[1]", IntEither.left("1").toString());
+    }
+
+    @Test
+    void testGetLeftAndGetRight() {
+        IntEither<String> left = IntEither.left("1");
+        assertTrue(left.isLeft());
+        assertFalse(left.isRight());
+        assertEquals(Optional.of("1"), left.getLeft());
+        assertEquals(OptionalInt.empty(), left.getRight());
+        IntEither<String> right = IntEither.right(1);
+        assertTrue(right.isRight());
+        assertEquals(Optional.empty(), right.getLeft());
+        assertEquals(OptionalInt.of(1), right.getRight());
+    }
+
+    @Test
+    void testMap() {
+        IntEither<String> left = IntEither.left("1");
+        assertSame(left, left.map(n -> n + 1));
+        assertEquals(IntEither.right(2), IntEither.right(1).map(n -> n + 1));
+        assertEquals(Either.right("1"), IntEither.right(1).mapToObj(Integer::toString));
+        assertEquals(Either.left("1"), left.mapToObj(Integer::toString));
+        assertEquals(LongEither.right(2L), IntEither.right(1).mapToLong(n -> n + 1L));
+        assertEquals(LongEither.left("1"), left.mapToLong(n -> n));
+        assertEquals(DoubleEither.right(0.5), IntEither.right(1).mapToDouble(n -> n / 2.0));
+        assertEquals(DoubleEither.left("1"), left.mapToDouble(n -> n));
+    }
+
+    @Test
+    void testFlatMap() {
+        IntEither<String> left = IntEither.left("1");
+        assertSame(left, left.flatMap(IntEither::right));
+        assertEquals(IntEither.right(2), IntEither.<String>right(1).flatMap(n -> IntEither.right(n + 1)));
+        assertEquals(IntEither.left("x"), IntEither.<String>right(1).flatMap(n -> IntEither.left("x")));
+    }
+
+    @Test
+    void testFilter() {
+        IntEither<String> left = IntEither.left("1");
+        assertSame(left, left.filter(n -> false, Integer::toString));
+        IntEither<String> right = IntEither.right(1);
+        assertSame(right, right.filter(n -> n > 0, Integer::toString));
+        assertEquals(IntEither.left("1"), right.filter(n -> n < 0, Integer::toString));
+    }
+
+    @Test
+    void testMapLeft() {
+        assertEquals(IntEither.left(1), IntEither.left("1").mapLeft(Integer::parseInt));
+        IntEither<String> right = IntEither.right(1);
+        assertSame(right, right.mapLeft(Integer::parseInt));
+    }
+
+    @Test
+    void testFold() {
+        assertEquals("L1", IntEither.left("1").fold(l -> "L" + l, r -> "R" + r));
+        assertEquals("R1", IntEither.right(1).fold(l -> "L" + l, r -> "R" + r));
+        String[] output = {""};
+        IntEither.left("1").ifLeftOrElse(l -> output[0] = "L", r -> output[0] = "R");
+        assertEquals("L", output[0]);
+        IntEither.right(1).ifLeftOrElse(l -> output[0] = "L", r -> output[0] = "R");
+        assertEquals("R", output[0]);
+    }
+
+    @Test
+    void testOrElse() throws IOException {
+        assertEquals(2, IntEither.left("1").orElse(2));
+        assertEquals(1, IntEither.right(1).orElse(2));
+        IOException x = assertThrows(IOException.class, () -> IntEither.left("1").orElseThrow(IOException::new));
+        assertEquals("1", x.getMessage());
+        assertEquals(1, IntEither.<String>right(1).orElseThrow(IOException::new));
+    }
+
+    @Test
+    void testBoxed() {
+        assertEquals(Either.right(1), IntEither.right(1).boxed());
+        assertEquals(Either.left("1"), IntEither.left("1").boxed());
+        assertEquals(IntEither.right(1), Either.right("1").mapToInt(Integer::parseInt));
+        assertEquals(IntEither.left("1"), Either.left("1").mapToInt(Object::hashCode));
+    }
+}
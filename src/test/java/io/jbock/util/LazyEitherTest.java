@@ -0,0 +1,91 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LazyEitherTest {
+
+    @Test
+    void testMap() {
+        assertEquals(Either.right(4), LazyEither.of(Either.right(1))
+                .map(n -> n + 1)
+                .map(n -> n * 2)
+                .toEither());
+        assertEquals(Either.left("1"), LazyEither.<String, Integer>of(Either.left("1"))
+                .map(n -> n + 1)
+                .toEither());
+    }
+
+    @Test
+    void testFlatMap() {
+        assertEquals(Either.left("2"), LazyEither.<String, Integer>of(Either.right(1))
+                .flatMap(n -> Either.<String, Integer>left("" + (n + 1)))
+                .map(n -> n + 1)
+                .toEither());
+        assertEquals(Either.right(2), LazyEither.<String, Integer>of(Either.right(1))
+                .flatMap(n -> Either.right(n + 1))
+                .toEither());
+    }
+
+    @Test
+    void testFilter() {
+        LazyEither<String, Integer> right = LazyEither.of(Either.right(1));
+        assertEquals(Either.right(1), right.filter(n -> n > 0, n -> "negative").toEither());
+        assertEquals(Either.left("positive"), right.filter(n -> n < 0, n -> "positive").toEither());
+        assertEquals(Either.left("x"), right.filter(n -> Optional.of("x")).toEither());
+        assertEquals(Either.right(1), right.filter(n -> Optional.empty()).toEither());
+    }
+
+    @Test
+    void testMapLeft() {
+        assertEquals(Either.left(2), LazyEither.<String, Integer>of(Either.right(1))
+                .filter(n -> false, n -> "1")
+                .mapLeft(Integer::parseInt)
+                .mapLeft(n -> n + 1)
+                .toEither());
+        assertEquals(Either.right(5), LazyEither.<String, Integer>of(Either.left("1"))
+                .flatMapLeft(s -> Either.right(4))
+                .map(n -> n + 1)
+                .toEither());
+        assertEquals(Either.right(1), LazyEither.<String, Integer>of(Either.right(1))
+                .mapLeft(Integer::parseInt)
+                .toEither());
+    }
+
+    @Test
+    void testOrderOfOperations() {
+        // a Left produced after mapLeft is not mapped
+        assertEquals(Either.left("late"), LazyEither.<String, Integer>of(Either.right(1))
+                .mapLeft(s -> "mapped")
+                .filter(n -> false, n -> "late")
+                .toEither());
+    }
+
+    @Test
+    void testTerminalOperations() throws IOException {
+        LazyEither<String, Integer> right = LazyEither.<String, Integer>of(Either.right(1)).map(n -> n + 1);
+        LazyEither<String, Integer> left = LazyEither.<String, Integer>of(Either.left("1")).map(n -> n + 1);
+        assertEquals("R2", right.fold(l -> "L" + l, r -> "R" + r));
+        assertEquals("L1", left.fold(l -> "L" + l, r -> "R" + r));
+        assertEquals(2, right.orElseThrow(IOException::new));
+        IOException x = assertThrows(IOException.class, () -> left.orElseThrow(IOException::new));
+        assertEquals("1", x.getMessage());
+    }
+
+    @Test
+    void testLaziness() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyEither<String, Integer> pipeline = LazyEither.<String, Integer>from(() -> Either.right(calls.incrementAndGet()))
+                .map(n -> n * 10);
+        assertEquals(0, calls.get());
+        assertEquals(Either.right(10), pipeline.toEither());
+        assertEquals(Either.right(20), pipeline.toEither());
+        assertEquals(2, calls.get());
+    }
+}
@@ -0,0 +1,115 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongEitherTest {
+
+    @Test
+    void testEqualsAndHashCode() {
+        assertEquals(LongEither.right(1L), LongEither.right(1L));
+        assertEquals(LongEither.right(1L).hashCode(), LongEither.right(1L).hashCode());
+        assertNotEquals(LongEither.right(1L), LongEither.right(2L));
+        assertNotEquals(LongEither.right(1L), LongEither.right(1L + (1L << 32)));
+        assertEquals(LongEither.left("1"), LongEither.left("1"));
+        assertEquals(LongEither.left("1").hashCode(), LongEither.left("1").hashCode());
+        assertNotEquals(LongEither.left("1"), LongEither.left("2"));
+        assertNotEquals(LongEither.<Object>left(0L), LongEither.right(0L));
+        assertNotEquals(LongEither.right(0L), LongEither.<Object>left(0L));
+        assertNotEquals(LongEither.right(1L), IntEither.right(1));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("Right[1]", LongEither.right(1L).toString());
+        assertEquals("Left[1]", LongEither.left("1").toString());
+    }
+
+    @Test
+    void testGetLeftAndGetRight() {
+        LongEither<String> left = LongEither.left("1");
+        assertTrue(left.isLeft());
+        assertFalse(left.isRight());
+        assertEquals(Optional.of("1"), left.getLeft());
+        assertEquals(OptionalLong.empty(), left.getRight());
+        LongEither<String> right = LongEither.right(Long.MAX_VALUE);
+        assertTrue(right.isRight());
+        assertEquals(Optional.empty(), right.getLeft());
+        assertEquals(OptionalLong.of(Long.MAX_VALUE), right.getRight());
+    }
+
+    @Test
+    void testMap() {
+        LongEither<String> left = LongEither.left("1");
+        assertSame(left, left.map(n -> n + 1));
+        assertEquals(LongEither.right(2L), LongEither.right(1L).map(n -> n + 1));
+        assertEquals(Either.right("1"), LongEither.right(1L).mapToObj(Long::toString));
+        assertEquals(Either.left("1"), left.mapToObj(Long::toString));
+        assertEquals(IntEither.right(2), LongEither.right(1L).mapToInt(n -> (int) n + 1));
+        assertEquals(IntEither.left("1"), left.mapToInt(n -> (int) n));
+        assertEquals(DoubleEither.right(0.5), LongEither.right(1L).mapToDouble(n -> n / 2.0));
+        assertEquals(DoubleEither.left("1"), left.mapToDouble(n -> n));
+    }
+
+    @Test
+    void testFlatMap() {
+        LongEither<String> left = LongEither.left("1");
+        assertSame(left, left.flatMap(LongEither::right));
+        assertEquals(LongEither.right(2L), LongEither.<String>right(1L).flatMap(n -> LongEither.right(n + 1)));
+        assertEquals(LongEither.left("x"), LongEither.<String>right(1L).flatMap(n -> LongEither.left("x")));
+    }
+
+    @Test
+    void testFilter() {
+        LongEither<String> left = LongEither.left("1");
+        assertSame(left, left.filter(n -> false, Long::toString));
+        LongEither<String> right = LongEither.right(1L);
+        assertSame(right, right.filter(n -> n > 0, Long::toString));
+        assertEquals(LongEither.left("1"), right.filter(n -> n < 0, Long::toString));
+    }
+
+    @Test
+    void testMapLeft() {
+        assertEquals(LongEither.left(1), LongEither.left("1").mapLeft(Integer::parseInt));
+        LongEither<String> right = LongEither.right(1L);
+        assertSame(right, right.mapLeft(Integer::parseInt));
+    }
+
+    @Test
+    void testFold() {
+        assertEquals("L1", LongEither.left("1").fold(l -> "L" + l, r -> "R" + r));
+        assertEquals("R1", LongEither.right(1L).fold(l -> "L" + l, r -> "R" + r));
+        String[] output = {""};
+        LongEither.left("1").ifLeftOrElse(l -> output[0] = "L", r -> output[0] = "R");
+        assertEquals("L", output[0]);
+        LongEither.right(1L).ifLeftOrElse(l -> output[0] = "L", r -> output[0] = "R");
+        assertEquals("R", output[0]);
+    }
+
+    @Test
+    void testOrElse() throws IOException {
+        assertEquals(2L, LongEither.left("1").orElse(2L));
+        assertEquals(1L, LongEither.right(1L).orElse(2L));
+        IOException x = assertThrows(IOException.class, () -> LongEither.left("1").orElseThrow(IOException::new));
+        assertEquals("1", x.getMessage());
+        assertEquals(1L, LongEither.<String>right(1L).orElseThrow(IOException::new));
+    }
+
+    @Test
+    void testBoxed() {
+        assertEquals(Either.right(1L), LongEither.right(1L).boxed());
+        assertEquals(Either.left("1"), LongEither.left("1").boxed());
+        assertEquals(LongEither.right(1L), Either.right("1").mapToLong(Long::parseLong));
+        assertEquals(LongEither.left("1"), Either.left("1").mapToLong(Object::hashCode));
+    }
+}
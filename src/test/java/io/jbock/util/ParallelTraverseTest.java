@@ -0,0 +1,105 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.jbock.util.Either.left;
+import static io.jbock.util.Either.right;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelTraverseTest {
+
+    @Test
+    void testRight() {
+        List<Integer> input = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        List<Integer> expected = IntStream.range(0, 1000).map(n -> 2 * n).boxed().collect(Collectors.toList());
+        assertEquals(right(expected), Eithers.parallelTraverse(input, n -> right(2 * n)));
+        assertEquals(right(expected), Eithers.parallelTraverseAllFailures(input, n -> right(2 * n)));
+        assertEquals(right(List.of()), Eithers.parallelTraverse(List.<Integer>of(), n -> right(n)));
+    }
+
+    @Test
+    void testCallerIsWorkerOfTheSamePool() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            Either<String, List<Integer>> result = pool.submit(() -> Eithers.<Integer, String, Integer>parallelTraverse(
+                    List.of(1, 2, 3), n -> right(2 * n), pool)).get(10, TimeUnit.SECONDS);
+            assertEquals(right(List.of(2, 4, 6)), result);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testNestedDefaultExecutor() {
+        List<Integer> input = IntStream.range(0, 4 * TaskExecutors.PARALLELISM).boxed().collect(Collectors.toList());
+        Either<String, List<Integer>> result = Eithers.parallelTraverse(input, n -> Eithers.<Integer, String, Integer>parallelTraverse(
+                List.of(n), Either::right).map(list -> list.get(0)));
+        assertEquals(right(input), result);
+    }
+
+    @Test
+    void testAllFailures() {
+        assertEquals(left(List.of("1", "3")), Eithers.parallelTraverseAllFailures(List.of(1, 2, 3),
+                n -> n % 2 == 1 ? left("" + n) : right(n)));
+    }
+
+    @Test
+    void testFirstLeftInterruptsOthers() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        try {
+            Either<String, List<Integer>> result = Eithers.parallelTraverse(List.of(1, 2), n -> {
+                if (n == 2) {
+                    started.countDown();
+                    try {
+                        blocked.await();
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                    return right(n);
+                }
+                try {
+                    started.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return left("1");
+            }, executor);
+            assertEquals(left("1"), result);
+            assertTrue(interrupted.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testException() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            IllegalStateException x = assertThrows(IllegalStateException.class, () ->
+                    Eithers.parallelTraverse(List.of(1, 2, 3), n -> {
+                        if (n == 2) {
+                            throw new IllegalStateException("2");
+                        }
+                        return right(n);
+                    }, executor));
+            assertEquals("2", x.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
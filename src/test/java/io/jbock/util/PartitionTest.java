@@ -0,0 +1,49 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.jbock.util.Either.left;
+import static io.jbock.util.Either.right;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class PartitionTest {
+
+    @Test
+    void testPartition() {
+        Partition<List<String>, List<Integer>> result = Stream.<Either<String, Integer>>of(left("1"), right(2), left("3"), right(4))
+                .collect(Eithers.partition());
+        assertEquals(List.of("1", "3"), result.lefts());
+        assertEquals(List.of(2, 4), result.rights());
+        assertEquals(new Partition<>(List.of(), List.of()), Stream.<Either<String, Integer>>of().collect(Eithers.partition()));
+    }
+
+    @Test
+    void testPartitioning() {
+        Partition<Long, Integer> result = Stream.<Either<String, Integer>>of(left("1"), right(2), left("3"), right(4))
+                .collect(Eithers.partitioning(Collectors.counting(), Collectors.summingInt(n -> n)));
+        assertEquals(new Partition<>(2L, 6), result);
+    }
+
+    @Test
+    void testParallel() {
+        Partition<List<Integer>, List<Integer>> result = IntStream.range(0, 100_000).parallel()
+                .mapToObj(n -> n % 3 == 0 ? Either.<Integer, Integer>left(n) : Either.<Integer, Integer>right(n))
+                .collect(Eithers.partition());
+        assertEquals(IntStream.range(0, 100_000).filter(n -> n % 3 == 0).boxed().collect(Collectors.toList()), result.lefts());
+        assertEquals(IntStream.range(0, 100_000).filter(n -> n % 3 != 0).boxed().collect(Collectors.toList()), result.rights());
+    }
+
+    @Test
+    void testEqualsAndToString() {
+        assertEquals(new Partition<>(1, 2), new Partition<>(1, 2));
+        assertEquals(new Partition<>(1, 2).hashCode(), new Partition<>(1, 2).hashCode());
+        assertNotEquals(new Partition<>(1, 2), new Partition<>(2, 1));
+        assertEquals("Partition[lefts=1, rights=2]", new Partition<>(1, 2).toString());
+    }
+}
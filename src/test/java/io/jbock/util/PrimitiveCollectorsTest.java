@@ -0,0 +1,56 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrimitiveCollectorsTest {
+
+    @Test
+    void testInt() {
+        assertArrayEquals(new int[]{1, 2, 3}, Stream.of(IntEither.<String>right(1), IntEither.<String>right(2), IntEither.<String>right(3))
+                .collect(Eithers.firstFailureInt()).getRight().orElseThrow());
+        assertArrayEquals(new int[0], Stream.<IntEither<String>>of()
+                .collect(Eithers.firstFailureInt()).getRight().orElseThrow());
+        assertEquals(Either.left("1"), Stream.of(IntEither.<String>right(1), IntEither.left("1"), IntEither.left("2"))
+                .collect(Eithers.firstFailureInt()));
+        assertEquals(Either.left(List.of("1", "2")), Stream.of(IntEither.<String>right(1), IntEither.left("1"), IntEither.left("2"))
+                .collect(Eithers.allFailuresInt()));
+    }
+
+    @Test
+    void testLong() {
+        assertArrayEquals(new long[]{1, 2}, Stream.of(LongEither.<String>right(1), LongEither.<String>right(2))
+                .collect(Eithers.allFailuresLong()).getRight().orElseThrow());
+        assertEquals(Either.left("1"), Stream.of(LongEither.<String>left("1"), LongEither.left("2"))
+                .collect(Eithers.firstFailureLong()));
+    }
+
+    @Test
+    void testDouble() {
+        assertArrayEquals(new double[]{0.5, 1.5}, Stream.of(DoubleEither.<String>right(0.5), DoubleEither.<String>right(1.5))
+                .collect(Eithers.firstFailureDouble()).getRight().orElseThrow());
+        assertEquals(Either.left(List.of("1")), Stream.of(DoubleEither.<String>right(1), DoubleEither.left("1"))
+                .collect(Eithers.allFailuresDouble()));
+        assertEquals(DoubleEither.right(Double.NaN), DoubleEither.right(Double.NaN));
+    }
+
+    @Test
+    void testParallel() {
+        int[] expected = IntStream.range(0, 100_000).toArray();
+        assertArrayEquals(expected, IntStream.range(0, 100_000).parallel()
+                .mapToObj(IntEither::<String>right)
+                .collect(Eithers.allFailuresInt()).getRight().orElseThrow());
+        assertEquals(Either.left(List.of("7", "70000")), IntStream.range(0, 100_000).parallel()
+                .mapToObj(i -> i == 7 || i == 70000 ? IntEither.<String>left("" + i) : IntEither.<String>right(i))
+                .collect(Eithers.allFailuresInt()));
+        assertEquals(Either.left("7"), IntStream.range(0, 100_000).parallel()
+                .mapToObj(i -> i == 7 || i == 70000 ? IntEither.<String>left("" + i) : IntEither.<String>right(i))
+                .collect(Eithers.firstFailureInt()));
+    }
+}
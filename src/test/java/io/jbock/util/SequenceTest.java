@@ -0,0 +1,118 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractSequentialList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+
+import static io.jbock.util.Either.left;
+import static io.jbock.util.Either.right;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SequenceTest {
+
+    @Test
+    void testSequenceRight() {
+        List<Either<String, Integer>> input = List.of(right(1), right(2), right(3));
+        Either<String, List<Integer>> result = Eithers.sequence(input);
+        assertEquals(right(List.of(1, 2, 3)), result);
+        assertThrows(UnsupportedOperationException.class, () -> result.orElseThrow(IllegalStateException::new).set(0, 5));
+        assertEquals(right(List.of(1, 2, 3)), Eithers.sequence(new LinkedList<>(input)));
+        assertEquals(right(List.of()), Eithers.sequence(List.<Either<String, Integer>>of()));
+    }
+
+    @Test
+    void testSequenceLeft() {
+        Either<String, Integer> first = left("1");
+        List<Either<String, Integer>> input = List.of(right(0), first, left("2"));
+        assertSame(first, Eithers.sequence(input));
+        assertSame(first, Eithers.sequence(new LinkedList<>(input)));
+    }
+
+    @Test
+    void testSequenceStopsAtFirstLeft() {
+        Either<String, Integer> first = left("1");
+        List<Either<String, Integer>> input = new AbstractSequentialList<>() {
+            @Override
+            public ListIterator<Either<String, Integer>> listIterator(int index) {
+                ListIterator<Either<String, Integer>> it = List.<Either<String, Integer>>of(right(0), first).listIterator(index);
+                return new ListIterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return true;
+                    }
+
+                    @Override
+                    public Either<String, Integer> next() {
+                        if (!it.hasNext()) {
+                            throw new AssertionError("read past the first Left");
+                        }
+                        return it.next();
+                    }
+
+                    @Override
+                    public boolean hasPrevious() {
+                        return it.hasPrevious();
+                    }
+
+                    @Override
+                    public Either<String, Integer> previous() {
+                        return it.previous();
+                    }
+
+                    @Override
+                    public int nextIndex() {
+                        return it.nextIndex();
+                    }
+
+                    @Override
+                    public int previousIndex() {
+                        return it.previousIndex();
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public void set(Either<String, Integer> e) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public void add(Either<String, Integer> e) {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return 1_000_000;
+            }
+        };
+        assertSame(first, Eithers.sequence(input));
+    }
+
+    @Test
+    void testSequenceArray() {
+        @SuppressWarnings("unchecked")
+        Either<String, Integer>[] input = new Either[]{right(1), left("2"), right(3)};
+        assertEquals(left("2"), Eithers.sequence(input));
+        assertEquals(left(List.of("2")), Eithers.sequenceAllFailures(input));
+    }
+
+    @Test
+    void testSequenceAllFailures() {
+        List<Either<String, Integer>> input = List.of(right(0), left("1"), right(2), left("3"));
+        assertEquals(left(List.of("1", "3")), Eithers.sequenceAllFailures(input));
+        assertEquals(left(List.of("1", "3")), Eithers.sequenceAllFailures(new LinkedList<>(input)));
+        assertEquals(right(List.of(0, 2)), Eithers.sequenceAllFailures(List.<Either<String, Integer>>of(right(0), right(2))));
+        assertEquals(right(List.of()), Eithers.sequenceAllFailures(List.<Either<String, Integer>>of()));
+    }
+}
@@ -0,0 +1,72 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.jbock.util.Either.left;
+import static io.jbock.util.Either.right;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SideStreamsTest {
+
+    private static Stream<Either<String, Integer>> input() {
+        return Stream.of(left("1"), right(2), left("3"), right(4), right(5));
+    }
+
+    @Test
+    void testRights() {
+        assertEquals(List.of(2, 4, 5), Eithers.rights(input()).collect(Collectors.toList()));
+        assertEquals(List.of(2), Eithers.rights(input()).limit(1).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testLefts() {
+        assertEquals(List.of("1", "3"), Eithers.lefts(input()).collect(Collectors.toList()));
+        assertEquals(List.of("1"), Eithers.lefts(input()).limit(1).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testTee() {
+        List<String> lefts = new ArrayList<>();
+        assertEquals(List.of(2, 4, 5), Eithers.tee(input(), lefts::add).collect(Collectors.toList()));
+        assertEquals(List.of("1", "3"), lefts);
+    }
+
+    @Test
+    void testParallel() {
+        List<Either<Integer, Integer>> data = IntStream.range(0, 100_000)
+                .mapToObj(n -> n % 2 == 0 ? Either.<Integer, Integer>left(n) : Either.<Integer, Integer>right(n))
+                .collect(Collectors.toList());
+        assertTrue(Eithers.rights(data.parallelStream()).isParallel());
+        assertEquals(IntStream.range(0, 100_000).filter(n -> n % 2 == 1).boxed().collect(Collectors.toList()),
+                Eithers.rights(data.parallelStream()).collect(Collectors.toList()));
+        ConcurrentLinkedQueue<Integer> lefts = new ConcurrentLinkedQueue<>();
+        assertEquals(50_000, Eithers.tee(data.parallelStream(), lefts::add).count());
+        assertEquals(50_000, lefts.size());
+    }
+
+    @Test
+    void testCharacteristics() {
+        Spliterator<Integer> spliterator = Eithers.rights(input()).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+    }
+
+    @Test
+    void testClose() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Eithers.rights(input().onClose(() -> closed.set(true))).close();
+        assertTrue(closed.get());
+    }
+}
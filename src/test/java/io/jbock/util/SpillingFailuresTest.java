@@ -0,0 +1,212 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillingFailuresTest {
+
+    private static List<Either<String, Integer>> data(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(n -> n % 3 == 0 ? Either.<String, Integer>left("failure " + n) : Either.<String, Integer>right(n))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> expectedLefts(int size) {
+        return IntStream.range(0, size).filter(n -> n % 3 == 0).mapToObj(n -> "failure " + n).collect(Collectors.toList());
+    }
+
+    private static <T> List<T> toList(Iterable<T> iterable) {
+        List<T> result = new ArrayList<>();
+        iterable.forEach(result::add);
+        return result;
+    }
+
+    // simulates a parallel stream: one container per chunk, combined from left to right
+    private static <A, T> T combineChunks(
+            Collector<Either<? extends String, ? extends Integer>, A, T> collector,
+            List<Either<String, Integer>> data,
+            int chunkSize) {
+        A result = null;
+        for (int i = 0; i < data.size(); i += chunkSize) {
+            A container = collector.supplier().get();
+            for (Either<String, Integer> either : data.subList(i, Math.min(data.size(), i + chunkSize))) {
+                collector.accumulator().accept(container, either);
+            }
+            result = result == null ? container : collector.combiner().apply(result, container);
+        }
+        return collector.finisher().apply(result);
+    }
+
+    @Test
+    void testRight() {
+        Either<SpilledLefts<String>, List<Integer>> result = Stream.of(Either.<String, Integer>right(1), Either.<String, Integer>right(2))
+                .collect(Eithers.allFailuresSpilling(ValueCodec.ofString(), 10));
+        assertEquals(Either.right(List.of(1, 2)), result);
+    }
+
+    @Test
+    void testInMemory() {
+        Either<SpilledLefts<String>, List<Integer>> result = data(30).stream()
+                .collect(Eithers.allFailuresSpilling(ValueCodec.ofString(), 100));
+        try (SpilledLefts<String> lefts = result.getLeft().orElseThrow()) {
+            assertFalse(lefts.isSpilled());
+            assertEquals(10, lefts.size());
+            assertEquals(expectedLefts(30), toList(lefts));
+        }
+    }
+
+    @Test
+    void testSpilled() throws IOException {
+        Path directory = Files.createTempDirectory("spill-test");
+        try {
+            Either<SpilledLefts<String>, List<Integer>> result = data(30_000).stream()
+                    .collect(Eithers.allFailuresSpilling(ValueCodec.ofString(), 100, directory, 4096));
+            SpilledLefts<String> lefts = result.getLeft().orElseThrow();
+            assertTrue(lefts.isSpilled());
+            assertEquals(10_000, lefts.size());
+            assertEquals(expectedLefts(30_000), toList(lefts));
+            assertEquals(expectedLefts(30_000), lefts.stream().collect(Collectors.toList()));
+            Iterator<String> it = lefts.iterator();
+            assertEquals("failure 0", it.next());
+            lefts.close();
+            assertThrows(IllegalStateException.class, it::hasNext);
+            assertThrows(IllegalStateException.class, it::next);
+            assertThrows(IllegalStateException.class, lefts::iterator);
+        } finally {
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    void testLargeValue() {
+        String big = "x".repeat(10_000);
+        Either<SpilledLefts<String>, List<Integer>> result = Stream.of(Either.<String, Integer>left("a"), Either.<String, Integer>left(big), Either.<String, Integer>left("b"))
+                .collect(Eithers.allFailuresSpilling(ValueCodec.ofString(), 0, Path.of(System.getProperty("java.io.tmpdir")), 1024));
+        try (SpilledLefts<String> lefts = result.getLeft().orElseThrow()) {
+            assertEquals(List.of("a", big, "b"), toList(lefts));
+        }
+    }
+
+    @Test
+    void testParallel() {
+        Either<SpilledLefts<String>, List<Integer>> result = data(300_000).parallelStream()
+                .collect(Eithers.allFailuresSpilling(ValueCodec.ofString(), 1000));
+        try (SpilledLefts<String> lefts = result.getLeft().orElseThrow()) {
+            assertTrue(lefts.isSpilled());
+            assertTrue(lefts.inMemorySize() <= 1000);
+            assertEquals(expectedLefts(300_000), toList(lefts));
+        }
+    }
+
+    @Test
+    void testCombineKeepsLimit() {
+        Collector<Either<? extends String, ? extends Integer>, ?, Either<SpilledLefts<String>, List<Integer>>> collector =
+                Eithers.allFailuresSpilling(ValueCodec.ofString(), 100);
+        for (int chunkSize : new int[]{150, 450}) {
+            try (SpilledLefts<String> lefts = combineChunks(collector, data(1500), chunkSize).getLeft().orElseThrow()) {
+                assertEquals(500, lefts.size());
+                assertTrue(lefts.isSpilled());
+                assertTrue(lefts.inMemorySize() <= 100);
+                assertEquals(expectedLefts(1500), toList(lefts));
+            }
+        }
+    }
+
+    @Test
+    void testFailingCodecClosesFiles() throws IOException {
+        Path fds = Path.of("/proc/self/fd");
+        if (!Files.isDirectory(fds)) {
+            return; // cannot observe open files on this platform
+        }
+        ValueCodec<String> failing = new ValueCodec<>() {
+            int writes;
+
+            @Override
+            public int encodedSize(String value) {
+                return ValueCodec.ofString().encodedSize(value);
+            }
+
+            @Override
+            public void write(String value, ByteBuffer buffer) {
+                if (++writes > 50) {
+                    throw new IllegalStateException("disk full");
+                }
+                ValueCodec.ofString().write(value, buffer);
+            }
+
+            @Override
+            public String read(ByteBuffer buffer) {
+                return ValueCodec.ofString().read(buffer);
+            }
+
+            @Override
+            public void write(String value, DataOutput out) throws IOException {
+                ValueCodec.ofString().write(value, out);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                return ValueCodec.ofString().read(in);
+            }
+        };
+        Path directory = Files.createTempDirectory("spill-test");
+        try {
+            assertThrows(IllegalStateException.class, () -> data(3000).stream()
+                    .collect(Eithers.allFailuresSpilling(failing, 10, directory, 4096)));
+            assertEquals(0, openFiles(fds, directory));
+        } finally {
+            Files.delete(directory);
+        }
+    }
+
+    private static long openFiles(Path fds, Path directory) throws IOException {
+        long result = 0;
+        try (Stream<Path> links = Files.list(fds)) {
+            for (Path link : (Iterable<Path>) links::iterator) {
+                try {
+                    if (Files.readSymbolicLink(link).toString().startsWith(directory.toString())) {
+                        result++;
+                    }
+                } catch (IOException e) {
+                    // the descriptor was closed while listing
+                }
+            }
+        }
+        return result;
+    }
+
+    @Test
+    void testIteratorExhausted() {
+        Either<SpilledLefts<String>, List<Integer>> result = data(4).stream()
+                .collect(Eithers.allFailuresSpilling(ValueCodec.ofString(), 0));
+        try (SpilledLefts<String> lefts = result.getLeft().orElseThrow()) {
+            Iterator<String> it = lefts.iterator();
+            assertEquals("failure 0", it.next());
+            assertEquals("failure 3", it.next());
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    void testNegativeLimit() {
+        assertThrows(IllegalArgumentException.class, () -> Eithers.allFailuresSpilling(ValueCodec.ofString(), -1));
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.jbock.util.Either.left;
 import static io.jbock.util.Either.right;
@@ -32,6 +34,17 @@ class ToValidListAllTest {
         assertEquals(right(List.of(1, 2, 3)), apply(List.of(right(1), right(2), right(3))));
     }
 
+    @Test
+    void testParallel() {
+        List<Integer> expected = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        assertEquals(right(expected), expected.parallelStream()
+                .map(Either::<String, Integer>right)
+                .collect(Eithers.allFailures()));
+        assertEquals(left(List.of("7", "70000")), expected.parallelStream()
+                .map(i -> i == 7 || i == 70000 ? Either.<String, Integer>left("" + i) : Either.<String, Integer>right(i))
+                .collect(Eithers.allFailures()));
+    }
+
     private Either<List<String>, List<Integer>> apply(List<Either<String, Integer>> data) {
         return data.stream().collect(Eithers.allFailures());
     }
@@ -0,0 +1,58 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static io.jbock.util.Either.left;
+import static io.jbock.util.Either.right;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TraverseTest {
+
+    private static final Function<Integer, Either<String, Integer>> MAPPER = n ->
+            n < 0 ? left("negative: " + n) : right(n * 2);
+
+    @Test
+    void testRight() {
+        assertEquals(right(List.of(2, 4, 6)), Eithers.traverse(List.of(1, 2, 3), MAPPER));
+        assertEquals(right(List.of(2, 4, 6)), Eithers.traverse(List.of(1, 2, 3).iterator(), MAPPER));
+        assertEquals(right(List.of(2, 4, 6)), Eithers.traverse(Stream.of(1, 2, 3), MAPPER));
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(right(List.of()), Eithers.traverse(List.<Integer>of(), MAPPER));
+        assertEquals(right(List.of()), Eithers.traverse(Stream.<Integer>of(), MAPPER));
+    }
+
+    @Test
+    void testFirstLeft() {
+        assertEquals(left("negative: -2"), Eithers.traverse(List.of(1, -2, 3, -4), MAPPER));
+        assertEquals(left("negative: -1"), Eithers.traverse(Stream.of(-1, -2), MAPPER));
+    }
+
+    @Test
+    void testLeftIsReturnedUnchanged() {
+        Either<String, Integer> failure = left("1");
+        assertSame(failure, Eithers.traverse(List.of(1), n -> failure));
+    }
+
+    @Test
+    void testStopsAtFirstLeft() {
+        List<Integer> input = new ArrayList<>(List.of(1, -2, 3, 4));
+        Iterator<Integer> iterator = input.iterator();
+        Eithers.traverse(iterator, MAPPER);
+        assertEquals(3, iterator.next());
+
+        AtomicInteger pulled = new AtomicInteger();
+        Eithers.traverse(Stream.iterate(-1, n -> n + 1).peek(n -> pulled.incrementAndGet()), MAPPER);
+        assertEquals(1, pulled.get());
+    }
+}
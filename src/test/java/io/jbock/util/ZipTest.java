@@ -0,0 +1,60 @@
+package io.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.jbock.util.Either.left;
+import static io.jbock.util.Either.right;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ZipTest {
+
+    private final Either<String, Integer> one = right(1);
+    private final Either<String, Integer> two = right(2);
+    private final Either<String, Integer> failA = left("a");
+    private final Either<String, Integer> failB = left("b");
+
+    @Test
+    void testZip2() {
+        assertEquals(right(3), Either.zip(one, two, Integer::sum));
+        assertSame(failA, Either.zip(one, failA, Integer::sum));
+        assertSame(failA, Either.zip(failA, failB, Integer::sum));
+    }
+
+    @Test
+    void testZip3() {
+        Either<String, String> result = Either.zip(one, two, right("x"), (a, b, c) -> c + a + b);
+        assertEquals(right("x12"), result);
+        assertSame(failB, Either.zip(one, failB, failA, (a, b, c) -> a + b + c));
+    }
+
+    @Test
+    void testZip8() {
+        Either<String, Integer> result = Either.zip(one, one, one, one, one, one, one, two,
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        assertEquals(right(9), result);
+        assertSame(failA, Either.zip(one, one, one, one, one, one, one, failA,
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h));
+    }
+
+    @Test
+    void testZipAll() {
+        assertEquals(right(3), Either.zipAll(one, two, Integer::sum));
+        assertEquals(left(List.of("a", "b")), Either.zipAll(failA, failB, Integer::sum));
+        assertEquals(left(List.of("b", "a")), Either.zipAll(one, failB, two, failA,
+                (a, b, c, d) -> a + b + c + d));
+        assertEquals(right(4), Either.zipAll(one, one, one, one,
+                (a, b, c, d) -> a + b + c + d));
+        List<String> lefts = Either.zipAll(failA, failB, Integer::sum).getLeft().orElseThrow();
+        assertThrows(UnsupportedOperationException.class, () -> lefts.add("c"));
+    }
+
+    @Test
+    void testZipAll8() {
+        assertEquals(left(List.of("a", "b")), Either.zipAll(one, failA, one, one, one, one, one, failB,
+                (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h));
+    }
+}